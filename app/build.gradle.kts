@@ -8,6 +8,9 @@
 plugins {
     // Apply the application plugin to add support for building a CLI application in Java.
     application
+
+    // Benchmarks JMH en src/jmh/java: ./gradlew jmh (resultados en build/results/jmh)
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 repositories {
@@ -45,3 +48,213 @@ tasks.test {
     // Use the JUnit Platform framework for testing
     useJUnitPlatform()
 }
+
+// AppCDS: archivo dinámico de clases generado con una ejecución de entrenamiento de `generate`.
+// En JDK 17 el archivo solo es válido para la misma JVM y la misma ruta absoluta del jar; con otra ruta
+// -Xshare:auto lo ignora y las clases se cargan como siempre. Por eso la imagen Docker genera el suyo en su
+// propio build y la distribución se entrena con el jar ya instalado en build/install/app/lib.
+val cdsTrainingInputs = layout.projectDirectory.dir("src/cds")
+val cdsRuntimeFlags = listOf("-Xshare:auto", "-Xlog:cds=off", "-Xlog:cds+dynamic=off")
+
+// Ejecución de entrenamiento: copia app/src/cds a trainingDir y ejecuta generate con el jar indicado
+fun JavaExec.trainCdsArchive(jarFile: Provider<File>, trainingDir: Provider<Directory>, archiveFile: Provider<RegularFile>) {
+    inputs.file(jarFile)
+    inputs.dir(cdsTrainingInputs)
+    outputs.file(archiveFile)
+
+    classpath(jarFile)
+    mainClass = "cl.playground.cli.CommandLineApp"
+    args("generate")
+    workingDir(trainingDir)
+    environment("SQLIFT_NO_DAEMON", "1")
+    jvmArgumentProviders.add(CommandLineArgumentProvider {
+        listOf("-XX:ArchiveClassesAtExit=${archiveFile.get().asFile.absolutePath}")
+    })
+
+    doFirst {
+        delete(trainingDir)
+        copy {
+            from(cdsTrainingInputs)
+            into(trainingDir)
+        }
+    }
+}
+
+// Archivo para startupBenchmark, entrenado con build/libs/app.jar
+val cdsArchiveFile = layout.buildDirectory.file("libs/app.jsa")
+
+val cdsArchive by tasks.registering(JavaExec::class) {
+    group = "verification"
+    description = "Creates the AppCDS archive build/libs/app.jsa used by startupBenchmark."
+    trainCdsArchive(tasks.jar.flatMap { it.archiveFile }.map { it.asFile }, layout.buildDirectory.dir("cds-training"),
+        cdsArchiveFile)
+}
+
+// Archivo de la distribución: se entrena con el jar que usa el script de inicio instalado y queda a su lado,
+// en build/install/app/lib/app.jsa. Un installDist posterior lo borra y este task lo vuelve a generar
+val installedLib = tasks.installDist.map { layout.projectDirectory.dir(it.destinationDir.resolve("lib").absolutePath) }
+val distCdsArchiveFile = installedLib.map { it.file("app.jsa") }
+
+val distCdsArchive by tasks.registering(JavaExec::class) {
+    group = "distribution"
+    description = "Creates lib/app.jsa in the installed distribution from a training run of the installed jar."
+    dependsOn(tasks.installDist)
+    val installedJar = installedLib.zip(tasks.jar.flatMap { it.archiveFileName }) { lib, jarName -> lib.file(jarName).asFile }
+    trainCdsArchive(installedJar, layout.buildDirectory.dir("cds-dist-training"), distCdsArchiveFile)
+}
+
+tasks.installDist {
+    finalizedBy(distCdsArchive)
+}
+
+distributions {
+    // ./gradlew cdsDistZip o cdsDistTar: la distribución con lib/app.jsa. No forma parte de assemble, que así no
+    // ejecuta el entrenamiento
+    create("cds") {
+        contents {
+            with(distributions.main.get().contents)
+            from(distCdsArchive) {
+                into("lib")
+            }
+        }
+    }
+}
+
+// El plugin publica cdsDistZip y cdsDistTar en archives, de donde assemble toma sus dependencias
+configurations.archives {
+    artifacts.removeIf { it.name == "${project.name}-cds" }
+}
+
+// Los scripts de inicio usan lib/app.jsa si existe; nunca lo generan
+tasks.startScripts {
+    doLast {
+        val unixSnippet = """
+            |CDS_ARCHIVE=${'$'}APP_HOME/lib/app.jsa
+            |if [ -f "${'$'}CDS_ARCHIVE" ] ; then
+            |    JAVA_OPTS="\"-XX:SharedArchiveFile=${'$'}CDS_ARCHIVE\" ${cdsRuntimeFlags.joinToString(" ")} ${'$'}JAVA_OPTS"
+            |fi
+            |
+            |""".trimMargin()
+        val unix = unixScript.readText()
+        val classpathLine = unix.indexOf("\nCLASSPATH=") + 1
+        check(classpathLine > 0) { "CLASSPATH line not found in start script" }
+        unixScript.writeText(unix.substring(0, classpathLine) + unixSnippet + "\n" + unix.substring(classpathLine))
+
+        val windowsSnippet = listOf(
+            "set CDS_ARCHIVE=%APP_HOME%\\lib\\app.jsa",
+            "if exist \"%CDS_ARCHIVE%\" set JAVA_OPTS=\"-XX:SharedArchiveFile=%CDS_ARCHIVE%\" ${cdsRuntimeFlags.joinToString(" ")} %JAVA_OPTS%",
+            "", ""
+        ).joinToString("\r\n")
+        val windows = windowsScript.readText()
+        val windowsClasspathLine = windows.indexOf("set CLASSPATH=")
+        check(windowsClasspathLine >= 0) { "CLASSPATH line not found in Windows start script" }
+        windowsScript.writeText(windows.substring(0, windowsClasspathLine) + windowsSnippet + windows.substring(windowsClasspathLine))
+    }
+}
+
+// Compara el tiempo hasta el primer archivo generado con y sin AppCDS: ./gradlew startupBenchmark -PstartupRuns=20
+tasks.register("startupBenchmark") {
+    group = "verification"
+    description = "Measures time-to-first-file of generate with and without the AppCDS archive."
+    dependsOn(cdsArchive)
+
+    doLast {
+        val jar = tasks.jar.get().archiveFile.get().asFile
+        val archive = cdsArchiveFile.get().asFile
+        val java = javaToolchains.launcherFor {
+            languageVersion = JavaLanguageVersion.of(17)
+        }.get().executablePath.asFile
+        val runs = providers.gradleProperty("startupRuns").orNull?.toInt() ?: 10
+        val modes = linkedMapOf(
+            "default" to emptyList(),
+            "appcds" to listOf("-XX:SharedArchiveFile=${archive.absolutePath}") + cdsRuntimeFlags
+        )
+
+        modes.forEach { (mode, flags) ->
+            val firstFile = mutableListOf<Long>()
+            val total = mutableListOf<Long>()
+            val dir = layout.buildDirectory.dir("startup-benchmark/$mode").get().asFile
+
+            repeat(runs) {
+                dir.deleteRecursively()
+                cdsTrainingInputs.asFile.copyRecursively(dir)
+
+                val command = listOf(java.absolutePath) + flags + listOf("-jar", jar.absolutePath, "generate")
+                val builder = ProcessBuilder(command)
+                    .directory(dir)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                builder.environment()["SQLIFT_NO_DAEMON"] = "1"
+
+                val start = System.currentTimeMillis()
+                val exitCode = builder.start().waitFor()
+                val end = System.currentTimeMillis()
+                check(exitCode == 0) { "generate failed in $mode mode (exit code $exitCode)" }
+
+                val generated = dir.resolve("src/main/java").walkTopDown().filter { it.isFile }.toList()
+                check(generated.isNotEmpty()) { "generate produced no files in $mode mode" }
+                firstFile += generated.minOf { it.lastModified() } - start
+                total += end - start
+            }
+
+            println("%-8s time-to-first-file: %4d ms | total: %4d ms (median of %d runs)".format(
+                mode, firstFile.sorted()[runs / 2], total.sorted()[runs / 2], runs))
+        }
+    }
+}
+
+// Ejecutable nativo con GraalVM native-image (GRAALVM_HOME/bin o native-image en el PATH).
+// La metadata de reachability y las opciones están en src/main/resources/META-INF/native-image y viajan en el jar.
+val nativeImageFile = layout.buildDirectory.file("native/sqlift")
+
+val nativeImage by tasks.registering(Exec::class) {
+    group = "build"
+    description = "Builds the native executable build/native/sqlift from the jar with GraalVM native-image."
+    val jarFile = tasks.jar.flatMap { it.archiveFile }
+    inputs.file(jarFile)
+    inputs.property("nativeImageArgs", providers.gradleProperty("nativeImageArgs").orElse(""))
+    outputs.file(nativeImageFile)
+
+    executable = providers.environmentVariable("GRAALVM_HOME").map { "$it/bin/native-image" }.getOrElse("native-image")
+    argumentProviders.add(CommandLineArgumentProvider {
+        // Opciones adicionales por plataforma, por ejemplo -PnativeImageArgs=--static
+        val extraArgs = providers.gradleProperty("nativeImageArgs").orNull?.split(" ")?.filter { it.isNotBlank() }.orEmpty()
+        listOf("-jar", jarFile.get().asFile.absolutePath, "-o", nativeImageFile.get().asFile.absolutePath) + extraArgs
+    })
+
+    doFirst {
+        nativeImageFile.get().asFile.parentFile.mkdirs()
+    }
+}
+
+// Compara el ejecutable nativo con el jar sobre las fixtures de SchemaProcessorTest: mismas entidades y menor arranque
+val nativeImageTest by tasks.registering(Test::class) {
+    group = "verification"
+    description = "Runs the native executable and the jar on the test fixtures and compares output and startup time."
+    dependsOn(nativeImage, tasks.jar)
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform()
+    filter {
+        includeTestsMatching("cl.playground.cli.NativeImageTest")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+
+    doFirst {
+        systemProperty("sqlift.native.binary", nativeImageFile.get().asFile.absolutePath)
+        systemProperty("sqlift.jar", tasks.jar.get().archiveFile.get().asFile.absolutePath)
+    }
+}
+
+jmh {
+    jmhVersion = "1.37"
+    // Los benchmarks reutilizan las fixtures de prueba (SyntheticSchemaGenerator)
+    includeTests = true
+    // Throughput + tasa de asignación (gc.alloc.rate.norm) por benchmark
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    // Ejecutar un subconjunto: ./gradlew jmh -PjmhIncludes=SchemaProcessorBenchmark
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes = listOf(it) }
+}
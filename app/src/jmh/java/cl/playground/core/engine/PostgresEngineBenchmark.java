@@ -0,0 +1,73 @@
+package cl.playground.core.engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Costo de los métodos de PostgresEngine por cada definición de columna
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostgresEngineBenchmark {
+
+    @Param({
+        "id BIGINT",
+        "name VARCHAR(100) NOT NULL",
+        "email VARCHAR(255) UNIQUE NOT NULL",
+        "price NUMERIC(10, 2) DEFAULT 0.00",
+        "created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP",
+        "user_id BIGINT NOT NULL REFERENCES users(id)",
+        "tags TEXT[] DEFAULT '{}'"
+    })
+    public String columnDefinition;
+
+    private PostgresEngine engine;
+    private String createTable;
+
+    @Setup
+    public void setup() {
+        engine = new PostgresEngine();
+        createTable = "CREATE TABLE benchmark (\n    " + columnDefinition + ",\n    PRIMARY KEY (id)\n);";
+    }
+
+    @Benchmark
+    public String extractColumnName() {
+        return engine.extractColumnName(columnDefinition);
+    }
+
+    @Benchmark
+    public String extractColumnType() {
+        return engine.extractColumnType(columnDefinition);
+    }
+
+    @Benchmark
+    public void extractConstraints(Blackhole blackhole) {
+        blackhole.consume(engine.isNotNullColumn(columnDefinition));
+        blackhole.consume(engine.isUniqueColumn(columnDefinition));
+        blackhole.consume(engine.extractDefaultValue(columnDefinition));
+    }
+
+    @Benchmark
+    public Object extractColumnDefinitions() {
+        return engine.extractColumnDefinitions(createTable);
+    }
+
+    @Benchmark
+    public Object parseCreateTable() {
+        return engine.parseCreateTable(createTable);
+    }
+}
@@ -0,0 +1,47 @@
+package cl.playground.core.engine;
+
+import cl.playground.core.model.TableMetadata;
+import cl.playground.fixture.SyntheticSchemaGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Escalamiento de processSchema según la cantidad de tablas del esquema
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaProcessorBenchmark {
+
+    private static final long SEED = 20240101L;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int tables;
+
+    private SchemaProcessor processor;
+    private String schema;
+
+    @Setup
+    public void setup() {
+        processor = new SchemaProcessor(new PostgresEngine());
+        schema = new SyntheticSchemaGenerator(SEED, tables).generate();
+    }
+
+    @Benchmark
+    public List<TableMetadata> processSchema() {
+        return processor.processSchema(schema);
+    }
+}
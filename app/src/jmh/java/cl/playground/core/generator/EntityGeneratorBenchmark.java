@@ -0,0 +1,75 @@
+package cl.playground.core.generator;
+
+import cl.playground.core.engine.PostgresEngine;
+import cl.playground.core.engine.SchemaProcessor;
+import cl.playground.core.model.TableMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Generación de entidades con y sin Lombok: tabla simple, con relaciones y con clave compuesta
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityGeneratorBenchmark {
+
+    private static final String PACKAGE = "cl.playground.benchmark.entities";
+
+    private static final String SCHEMA = """
+        CREATE TABLE users (
+            id BIGSERIAL PRIMARY KEY,
+            email VARCHAR(255) UNIQUE NOT NULL,
+            name VARCHAR(100) NOT NULL,
+            active BOOLEAN DEFAULT TRUE,
+            created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+        );
+
+        CREATE TABLE orders (
+            id BIGSERIAL PRIMARY KEY,
+            user_id BIGINT NOT NULL REFERENCES users(id),
+            total NUMERIC(12, 2) DEFAULT 0,
+            notes TEXT
+        );
+
+        CREATE TABLE order_items (
+            order_id BIGINT REFERENCES orders(id),
+            line INT,
+            quantity INT NOT NULL,
+            PRIMARY KEY (order_id, line)
+        );
+        """;
+
+    @Param({"true", "false"})
+    public boolean useLombok;
+
+    private EntityGenerator generator;
+    private List<TableMetadata> tables;
+
+    @Setup
+    public void setup() {
+        generator = new EntityGenerator(useLombok);
+        tables = new SchemaProcessor(new PostgresEngine()).processSchema(SCHEMA);
+    }
+
+    @Benchmark
+    public void generateEntity(Blackhole blackhole) {
+        for (TableMetadata table : tables) {
+            blackhole.consume(generator.generateEntity(table, PACKAGE));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package cl.playground.core.generator;
+
+import cl.playground.core.engine.PostgresEngine;
+import cl.playground.core.engine.SchemaProcessor;
+import cl.playground.core.model.TableMetadata;
+import cl.playground.fixture.SyntheticSchemaGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Escalamiento de generateEntity sobre esquemas sintéticos completos
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityGeneratorScalingBenchmark {
+
+    private static final long SEED = 20240101L;
+    private static final String PACKAGE = "cl.playground.benchmark.entities";
+
+    @Param({"10", "100", "1000", "10000"})
+    public int tables;
+
+    private EntityGenerator generator;
+    private List<TableMetadata> schema;
+
+    @Setup
+    public void setup() {
+        generator = new EntityGenerator(true);
+        schema = new SchemaProcessor(new PostgresEngine()).processSchema(new SyntheticSchemaGenerator(SEED, tables).generate());
+    }
+
+    @Benchmark
+    public void generateEntities(Blackhole blackhole) {
+        for (TableMetadata table : schema) {
+            blackhole.consume(generator.generateEntity(table, PACKAGE));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package cl.playground.core.generator.factory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Helpers de nombres, invocados varias veces por columna y relación durante la generación
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UtilsFactoryBenchmark {
+
+    @Param({"id", "user_id", "order_line_items", "created_at", "sucursal"})
+    public String name;
+
+    @Benchmark
+    public String generateClassName() {
+        return UtilsFactory.generateClassName(name);
+    }
+
+    @Benchmark
+    public String generateFieldName() {
+        return UtilsFactory.generateFieldName(name);
+    }
+
+    @Benchmark
+    public String toPlural() {
+        return UtilsFactory.toPlural(name);
+    }
+}
@@ -1,17 +1,25 @@
 package cl.playground.cli;
 
+import cl.playground.cli.commands.DaemonCommand;
 import cl.playground.cli.commands.GenerateCommand;
+import cl.playground.cli.commands.GenerateOptions;
 import cl.playground.cli.commands.InitCommand;
+import cl.playground.cli.commands.SchemaWatcher;
+import cl.playground.cli.daemon.DaemonClient;
+import cl.playground.cli.daemon.DaemonProtocol;
 import cl.playground.exception.ConfigurationException;
 
+import java.nio.file.Paths;
 import java.util.Map;
 
 public class CommandLineApp {
-    private static final String VERSION = "1.0.0";
+    public static final String VERSION = "1.0.0";
+    // Los comandos se instancian al invocarse: cada ejecución solo carga las clases que usa
     private static final Map<String, Runnable> COMMANDS = Map.of(
         "--version", () -> System.out.println("Sqlift version " + VERSION),
-        "init", new InitCommand()::run,
-        "generate", new GenerateCommand()::run);
+        "init", () -> new InitCommand().run(),
+        "generate", () -> new GenerateCommand().run(),
+        "daemon", () -> new DaemonCommand().run());
 
     public static void main(String[] args) {
         try {
@@ -20,6 +28,32 @@ public class CommandLineApp {
                 return;
             }
 
+            if ("daemon".equals(args[0]) && args.length > 1 && "--stop".equals(args[1])) {
+                new DaemonCommand().stop();
+                return;
+            }
+
+            // Las opciones de generate se ejecutan en esta JVM: el protocolo del daemon no las transporta
+            if ("generate".equals(args[0]) && args.length > 1) {
+                GenerateOptions options = GenerateOptions.parse(args, 1);
+                // El modo watch mantiene su propia JVM caliente: no se reenvía al daemon
+                if (options.isWatch()) {
+                    new SchemaWatcher(options).run();
+                    return;
+                }
+                if (!options.isDefault()) {
+                    new GenerateCommand(options).run();
+                    return;
+                }
+            }
+
+            // Si hay un daemon escuchando, generate se ejecuta en su JVM ya caliente
+            if ("generate".equals(args[0]) && DaemonClient.isEnabled()
+                && new DaemonClient(DaemonProtocol.socketPath()).forward(
+                    DaemonProtocol.COMMAND_GENERATE, Paths.get(System.getProperty("user.dir")), System.out, System.err)) {
+                return;
+            }
+
             Runnable command = COMMANDS.get(args[0]);
             if (command == null) {
                 System.err.println("❌ Unknown command: " + args[0]);
@@ -37,8 +71,16 @@ public class CommandLineApp {
     private static void printHelp() {
         System.out.println("""
             Usage:
-              sqlift --version       Show the tool's version
-              sqlift init            Initialize configuration files
-              sqlift generate        Generate Java entity classes from SQL schema""");
+              sqlift --version         Show the tool's version
+              sqlift init              Initialize configuration files
+              sqlift generate          Generate Java entity classes from SQL schema
+              sqlift generate --watch  Regenerate affected entities whenever the schema changes
+                                       (combinable with --compile and --stats, applied on every regeneration)
+              sqlift generate --compile [--classpath <cp>] [--compile-output <dir|jar>]
+                                       Also compile the generated entities in memory and report errors per table
+              sqlift generate --stats [--stats-json <file>]
+                                       Print (and export as JSON) time, count and allocated bytes per phase
+              sqlift daemon            Keep a warm JVM that serves generate requests (SQLIFT_NO_DAEMON=1 to bypass)
+              sqlift daemon --stop     Stop the running daemon""");
     }
 }
@@ -0,0 +1,31 @@
+package cl.playground.cli.commands;
+
+import cl.playground.cli.daemon.DaemonClient;
+import cl.playground.cli.daemon.DaemonProtocol;
+import cl.playground.cli.daemon.DaemonServer;
+import cl.playground.exception.ConfigurationException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public class DaemonCommand {
+
+    // Inicia el daemon en primer plano; `sqlift daemon &` lo deja en segundo plano
+    public void run() {
+        try {
+            new DaemonServer(DaemonProtocol.socketPath()).serve();
+        } catch (IOException e) {
+            throw new ConfigurationException("Could not start the sqlift daemon: " + e.getMessage(), e);
+        }
+    }
+
+    public void stop() {
+        Path socketPath = DaemonProtocol.socketPath();
+        boolean stopped = new DaemonClient(socketPath)
+            .forward(DaemonProtocol.COMMAND_STOP, Paths.get(System.getProperty("user.dir")), System.out, System.err);
+        if (!stopped) {
+            System.out.println("ℹ️  No sqlift daemon is running on " + socketPath);
+        }
+    }
+}
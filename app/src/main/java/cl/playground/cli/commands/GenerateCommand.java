@@ -2,63 +2,205 @@ package cl.playground.cli.commands;
 
 import cl.playground.config.model.SqliftConfig;
 import cl.playground.config.reader.YamlReader;
+import cl.playground.core.cache.GenerationCache;
+import cl.playground.core.compiler.CompilationResult;
+import cl.playground.core.compiler.EntityCompiler;
 import cl.playground.core.engine.PostgresEngine;
 import cl.playground.core.engine.SchemaProcessor;
 import cl.playground.core.generator.EntityGenerator;
-import cl.playground.core.generator.factory.UtilsFactory;
+import cl.playground.core.generator.EntityPipeline;
+import cl.playground.core.generator.mapping.CollectionRules;
+import cl.playground.core.generator.mapping.FetchPolicy;
+import cl.playground.core.generator.mapping.FetchRules;
+import cl.playground.core.generator.mapping.GeneratorOptions;
+import cl.playground.core.generator.mapping.IdGeneration;
+import cl.playground.core.generator.mapping.PersistableRules;
+import cl.playground.core.generator.naming.NamingService;
+import cl.playground.core.generator.naming.PluralRules;
+import cl.playground.core.metrics.Phase;
+import cl.playground.core.metrics.PhaseMetrics;
+import cl.playground.core.model.SchemaModel;
 import cl.playground.core.model.TableMetadata;
 import cl.playground.core.reader.SqlReader;
+import cl.playground.core.reader.SqlStatementReader;
+import cl.playground.core.writer.CollectingEntityWriter;
+import cl.playground.core.writer.EntityArchiveWriter;
+import cl.playground.core.writer.EntityFileWriter;
+import cl.playground.core.writer.EntityWriter;
 import cl.playground.exception.ConfigurationException;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class GenerateCommand {
     private static final String CONFIG_FILE = "sqlift.yaml";
+    private static final String SOURCE_ROOT = "src/main/java";
+
+    // Solo en modo daemon: esquemas ya procesados por ruta, reutilizados mientras el archivo no cambie
+    private final Map<Path, ParsedSchema> parsedSchemas;
+
+    private final GenerateOptions options;
+
+    public GenerateCommand() {
+        this(false);
+    }
+
+    public GenerateCommand(boolean keepParsedSchemas) {
+        this(keepParsedSchemas, GenerateOptions.defaults());
+    }
+
+    public GenerateCommand(GenerateOptions options) {
+        this(false, options);
+    }
+
+    public GenerateCommand(boolean keepParsedSchemas, GenerateOptions options) {
+        this.parsedSchemas = keepParsedSchemas ? new ConcurrentHashMap<>() : null;
+        this.options = options;
+    }
 
     public void run() {
+        run(Paths.get(System.getProperty("user.dir")), System.out, System.err);
+    }
+
+    // Todas las rutas (configuración, esquema, salida y caché) se resuelven contra workingDir
+    public void run(Path workingDir, PrintStream out, PrintStream err) {
         try {
-            String currentDir = System.getProperty("user.dir");
-            File yamlFile = new File(currentDir, CONFIG_FILE);
+            File yamlFile = workingDir.resolve(CONFIG_FILE).toFile();
 
             if (!yamlFile.exists()) {
-                throw new ConfigurationException("Configuration file not found in directory: " + currentDir);
+                throw new ConfigurationException("Configuration file not found in directory: " + workingDir);
             }
 
+            PhaseMetrics metrics = options.isStats() ? new PhaseMetrics() : PhaseMetrics.NONE;
+            PhaseMetrics.Sample configSample = metrics.start();
             Map<String, Object> context = extractConfigContext(yamlFile.getPath());
-            String sqlContent = SqlReader.readSql((String) context.get("schema"));
-            context.put("sqlContent", sqlContent);
 
-            PostgresEngine engine = new PostgresEngine();
-            SchemaProcessor schemaProcessor = new SchemaProcessor(engine);
-            List<TableMetadata> tables = schemaProcessor.processSchema(sqlContent);
+            int threads = (int) context.get("threads");
+            @SuppressWarnings("unchecked")
+            PluralRules pluralRules = PluralRules.withIrregulars((Map<String, String>) context.get("plurals"));
+            EntityGenerator generator = new EntityGenerator(GeneratorOptions.defaults()
+                .withLombok((boolean) context.get("useLombok"))
+                .withNaming(new NamingService(pluralRules))
+                .withFetchRules(buildFetchRules((SqliftConfig.FetchConfig) context.get("fetch")))
+                .withCollectionRules(buildCollectionRules((SqliftConfig.CollectionsConfig) context.get("collections")))
+                .withIdGeneration(buildIdGeneration((SqliftConfig.IdsConfig) context.get("ids")))
+                .withPersistableRules(PersistableRules.of((boolean) context.get("persistable"))));
+            metrics.stop(Phase.CONFIG, configSample);
+
+            PhaseMetrics.Sample cacheSample = metrics.start();
+            GenerationCache cache = (boolean) context.get("cache")
+                ? new GenerationCache(workingDir.resolve(GenerationCache.DEFAULT_DIRECTORY), generator.getCacheKey())
+                : null;
+            metrics.stop(Phase.CACHE, cacheSample, cache != null ? 1 : 0);
+
+            long parseStart = System.nanoTime();
+            Path schemaPath = workingDir.resolve((String) context.get("schema"));
+            SchemaModel model = reuseParsedSchema(schemaPath);
+            boolean reused = model != null;
+            if (!reused) {
+                PostgresEngine engine = new PostgresEngine();
+                SchemaProcessor schemaProcessor = new SchemaProcessor(engine, threads, cache, metrics);
+                PhaseMetrics.Sample openSample = metrics.start();
+                SqlStatementReader statements = SqlReader.readSchemaStatements(schemaPath.toString());
+                metrics.stop(Phase.STATEMENTS, openSample, 0);
+                try (statements) {
+                    model = schemaProcessor.buildSchemaModel(statements);
+                }
+                rememberParsedSchema(schemaPath, model);
+            }
+            long parseNanos = System.nanoTime() - parseStart;
 
-            EntityGenerator generator = new EntityGenerator((boolean) context.get("useLombok"));
             String packageName = (String) context.get("outputPackage");
-            for (TableMetadata table : tables) {
-                String entity = generator.generateEntity(table, packageName);
-                writeEntityFile(packageName, UtilsFactory.generateClassName(table.getTableName()), entity);
+            EntityPipeline.Result result;
+            String archive = (String) context.get("archive");
+            EntityWriter writer = archive != null && !archive.isEmpty()
+                ? new EntityArchiveWriter(workingDir.resolve(archive), packageName)
+                : new EntityFileWriter(workingDir.resolve(SOURCE_ROOT), packageName,
+                    workingDir.resolve(EntityFileWriter.DEFAULT_MANIFEST));
+            // Para compilar se conserva el código de cada entidad en memoria
+            CollectingEntityWriter collector = options.isCompile() ? new CollectingEntityWriter(writer) : null;
+            try (writer) {
+                result = new EntityPipeline(generator, threads, cache, metrics)
+                    .run(model, packageName, collector != null ? collector : writer);
             }
 
-            System.out.println("✅ Entities generated successfully!");
+            out.println("✅ Entities generated successfully!");
+            printWriterSummary(out, writer);
+            if (reused) {
+                out.println("♻️  schema unchanged: reused parsed tables from the daemon");
+            }
+            if (cache != null) {
+                // Solo se guarda tras una generación completa
+                PhaseMetrics.Sample saveSample = metrics.start();
+                cache.save();
+                metrics.stop(Phase.CACHE, saveSample);
+                out.printf("🗄  cache: %d/%d tables reused | %d/%d entities reused%n",
+                    cache.getStatementHits(), cache.getStatementHits() + cache.getStatementMisses(),
+                    cache.getEntityHits(), cache.getEntityHits() + cache.getEntityMisses());
+            }
+            printTimings(out, parseNanos, result);
+            if (collector != null) {
+                PhaseMetrics.Sample compileSample = metrics.start();
+                compileEntities(workingDir, out, err, model, generator, packageName, collector.getSources());
+                metrics.stop(Phase.COMPILE, compileSample, collector.getSources().size());
+            }
+            if (metrics.isEnabled()) {
+                printStats(out, metrics);
+                exportStats(workingDir, out, metrics);
+            }
 
         } catch (ConfigurationException e) {
-            System.err.println("❌ Configuration Error: " + e.getMessage());
+            err.println("❌ Configuration Error: " + e.getMessage());
 
         } catch (IllegalArgumentException e) {
-            System.err.println("❌ Schema Error: " + e.getMessage());
+            err.println("❌ Schema Error: " + e.getMessage());
 
         } catch (Exception e) {
             throw new ConfigurationException("An unexpected error occurred during generation", e);
         }
     }
 
+    private SchemaModel reuseParsedSchema(Path schemaPath) throws IOException {
+        if (parsedSchemas == null || !Files.isRegularFile(schemaPath)) {
+            return null;
+        }
+        ParsedSchema parsed = parsedSchemas.get(schemaPath.toAbsolutePath().normalize());
+        return parsed != null && parsed.matches(schemaPath) ? parsed.model : null;
+    }
+
+    private void rememberParsedSchema(Path schemaPath, SchemaModel model) throws IOException {
+        if (parsedSchemas != null) {
+            parsedSchemas.put(schemaPath.toAbsolutePath().normalize(),
+                new ParsedSchema(Files.size(schemaPath), Files.getLastModifiedTime(schemaPath).toMillis(), model));
+        }
+    }
+
+    // Ruta del esquema configurado en sqlift.yaml; null si la configuración no existe o es inválida
+    Path resolveSchemaPath(Path workingDir) {
+        Path configFile = workingDir.resolve(CONFIG_FILE);
+        if (!Files.isRegularFile(configFile)) {
+            return null;
+        }
+        try {
+            return workingDir.resolve((String) extractConfigContext(configFile.toString()).get("schema"));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    Path resolveConfigPath(Path workingDir) {
+        return workingDir.resolve(CONFIG_FILE);
+    }
+
     private Map<String, Object> extractConfigContext(String configPath) {
         Map<String, Object> context = new HashMap<>();
         SqliftConfig config = YamlReader.readConfig(configPath);
@@ -74,19 +216,159 @@ public class GenerateCommand {
         context.put("schema", config.getSql().getSchema());
         context.put("outputPackage", config.getSql().getOutput().getPackageName());
         context.put("useLombok", config.getSql().getOutput().isUseLombok());
+        context.put("plurals", config.getSql().getOutput().getPlurals());
+        context.put("archive", config.getSql().getOutput().getArchive());
+        context.put("fetch", config.getSql().getOutput().getFetch());
+        context.put("collections", config.getSql().getOutput().getCollections());
+        context.put("ids", config.getSql().getOutput().getIds());
+        context.put("persistable", config.getSql().getOutput().isPersistable());
+        context.put("threads", resolveThreads(config.getSql()));
+        context.put("cache", config.getSql().isCache());
 
         return context;
     }
 
-    private void writeEntityFile(String packageName, String className, String content) throws Exception {
-        String packagePath = packageName.replace('.', '/');
-        Path directory = Paths.get("src/main/java".replace("/", File.separator),
-            packagePath.replace("/", File.separator));
+    // Cada tabla configurada hereda de la sección general las opciones que no declara
+    private FetchRules buildFetchRules(SqliftConfig.FetchConfig fetch) {
+        if (fetch == null) {
+            return FetchRules.defaults();
+        }
+        FetchPolicy defaults = toFetchPolicy(fetch, FetchPolicy.DEFAULT);
+        Map<String, FetchPolicy> tables = new HashMap<>();
+        fetch.getTables().forEach((table, override) -> tables.put(table, toFetchPolicy(override, defaults)));
+        return FetchRules.of(defaults, tables);
+    }
+
+    private FetchPolicy toFetchPolicy(SqliftConfig.FetchConfig fetch, FetchPolicy inherited) {
+        return new FetchPolicy(
+            fetch.getLazy() != null ? fetch.getLazy() : inherited.isLazyToOne(),
+            fetch.getBatchSize() != null ? fetch.getBatchSize() : inherited.getBatchSize(),
+            fetch.getSubselect() != null ? fetch.getSubselect() : inherited.isSubselect());
+    }
+
+    private CollectionRules buildCollectionRules(SqliftConfig.CollectionsConfig collections) {
+        if (collections == null) {
+            return CollectionRules.defaults();
+        }
+        CollectionRules.Inverse inverse;
+        if (collections.getInverse() != null) {
+            inverse = CollectionRules.Inverse.valueOf(collections.getInverse().toUpperCase());
+        } else {
+            inverse = collections.getAllow().isEmpty() ? CollectionRules.Inverse.ALL : CollectionRules.Inverse.ALLOWLIST;
+        }
+        return CollectionRules.of(inverse, collections.getAllow(), collections.getMaxPerTable(), collections.isLazyInit());
+    }
+
+    private IdGeneration buildIdGeneration(SqliftConfig.IdsConfig ids) {
+        if (ids == null || !"sequence".equals(ids.getStrategy())) {
+            return IdGeneration.defaults();
+        }
+        return IdGeneration.sequence(ids.getAllocationSize());
+    }
+
+    // Modo paralelo opcional; por defecto usa un hilo por núcleo disponible
+    private int resolveThreads(SqliftConfig.SqlConfig sqlConfig) {
+        if (!sqlConfig.isParallel()) {
+            return 1;
+        }
+        return sqlConfig.getThreads() > 0 ? sqlConfig.getThreads() : Runtime.getRuntime().availableProcessors();
+    }
+
+    private void compileEntities(Path workingDir, PrintStream out, PrintStream err, SchemaModel model,
+                                 EntityGenerator generator, String packageName, Map<String, String> sources)
+        throws IOException {
+        Map<String, String> tables = new HashMap<>();
+        for (TableMetadata table : model.getTables()) {
+            tables.put(generator.getNaming().className(table.getTableName()), table.getTableName());
+        }
+
+        EntityCompiler compiler = new EntityCompiler(options.getClasspath());
+        CompilationResult compilation = compiler.compile(packageName, new TreeMap<>(sources), tables);
+        if (!compilation.isSuccess()) {
+            err.printf("❌ Compilation failed: %d errors in %d tables (%d ms)%n", compilation.getErrorCount(),
+                compilation.getErrorsByTable().size(), toMillis(compilation.getNanos()));
+            compilation.getErrorsByTable().forEach((table, errors) -> {
+                err.println(CompilationResult.GENERAL.equals(table) ? "   general:" : "   table " + table + ":");
+                errors.forEach(error -> err.println("     " + error.replace("\n", "\n     ")));
+            });
+            if (options.getClasspath() == null) {
+                err.println("💡 Use --classpath to provide jakarta.persistence (and Lombok) to the compiler");
+            }
+            return;
+        }
+
+        out.printf("🧪 compiled: %d entities | %d classes | %d ms%n",
+            compilation.getSources(), compilation.getClasses().size(), toMillis(compilation.getNanos()));
+        if (options.getCompileOutput() != null) {
+            Path target = workingDir.resolve(options.getCompileOutput());
+            compiler.writeClasses(compilation, target);
+            out.println("📦 classes: " + target);
+        }
+    }
+
+    // Las fases por tabla o por entidad suman el tiempo de todos los hilos
+    private void printStats(PrintStream out, PhaseMetrics metrics) {
+        out.printf("📊 %-11s %8s %11s %13s%n", "phase", "count", "wall ms", "allocated KB");
+        for (Phase phase : Phase.values()) {
+            if (!metrics.isRecorded(phase)) {
+                continue;
+            }
+            long bytes = metrics.getAllocatedBytes(phase);
+            out.printf("   %-11s %8d %11.1f %13s%n", phase.getLabel(), metrics.getCount(phase),
+                metrics.getNanos(phase) / 1_000_000.0, bytes < 0 ? "n/a" : String.valueOf(bytes / 1024));
+        }
+        out.printf("   %-11s %8s %11.1f%n", "total", "", metrics.getElapsedNanos() / 1_000_000.0);
+    }
+
+    private void exportStats(Path workingDir, PrintStream out, PhaseMetrics metrics) throws IOException {
+        if (options.getStatsJson() == null) {
+            return;
+        }
+        Path target = workingDir.resolve(options.getStatsJson());
+        if (target.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(target.toAbsolutePath().getParent());
+        }
+        Files.writeString(target, metrics.toJson(), StandardCharsets.UTF_8);
+        out.println("📈 stats: " + target);
+    }
+
+    private void printWriterSummary(PrintStream out, EntityWriter writer) {
+        if (writer instanceof EntityArchiveWriter archiveWriter) {
+            out.printf("📦 archive: %s | %d entities | %s%n", archiveWriter.getArchive(),
+                archiveWriter.getEntities(), archiveWriter.isUnchanged() ? "unchanged" : "written");
+        } else if (writer instanceof EntityFileWriter fileWriter) {
+            out.printf("📝 written: %d | unchanged: %d | deleted: %d%n",
+                fileWriter.getWritten(), fileWriter.getUnchanged(), fileWriter.getDeleted());
+        }
+    }
+
+    private void printTimings(PrintStream out, long parseNanos, EntityPipeline.Result result) {
+        out.printf("⏱  %d entities | parse: %d ms | generate: %d ms (%d threads) | write: %d ms | pipeline: %d ms%n",
+            result.getEntities(),
+            toMillis(parseNanos),
+            toMillis(result.getGenerationNanos()),
+            result.getThreads(),
+            toMillis(result.getWriteNanos()),
+            toMillis(result.getTotalNanos()));
+    }
+
+    private long toMillis(long nanos) {
+        return nanos / 1_000_000;
+    }
+
+    private static class ParsedSchema {
+        private final long size;
+        private final long lastModified;
+        private final SchemaModel model;
+
+        private ParsedSchema(long size, long lastModified, SchemaModel model) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.model = model;
+        }
 
-        Files.createDirectories(directory);
-        Files.writeString(directory.resolve(className + ".java"), content);
-        if (!Files.isWritable(directory)) {
-            throw new IOException("Write permission denied for: " + directory);
+        private boolean matches(Path schemaPath) throws IOException {
+            return Files.size(schemaPath) == size && Files.getLastModifiedTime(schemaPath).toMillis() == lastModified;
         }
     }
 }
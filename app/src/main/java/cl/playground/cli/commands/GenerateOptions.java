@@ -0,0 +1,102 @@
+package cl.playground.cli.commands;
+
+import cl.playground.exception.ConfigurationException;
+
+// Opciones de línea de comandos de generate
+public class GenerateOptions {
+    private boolean compile;
+    private String classpath;
+    private String compileOutput;
+    private boolean stats;
+    private String statsJson;
+    private boolean watch;
+
+    public static GenerateOptions defaults() {
+        return new GenerateOptions();
+    }
+
+    // Interpreta args desde la posición start, por ejemplo:
+    // generate --compile --classpath libs/* --compile-output build/entities.jar --stats-json build/sqlift-stats.json
+    // --watch puede combinarse con las demás opciones, en cualquier posición
+    public static GenerateOptions parse(String[] args, int start) {
+        GenerateOptions options = new GenerateOptions();
+        for (int i = start; i < args.length; i++) {
+            switch (args[i]) {
+                case "--compile" -> options.compile = true;
+                case "--classpath" -> {
+                    options.classpath = requireValue(args, ++i, "--classpath");
+                    options.compile = true;
+                }
+                case "--compile-output" -> {
+                    options.compileOutput = requireValue(args, ++i, "--compile-output");
+                    options.compile = true;
+                }
+                case "--stats" -> options.stats = true;
+                case "--watch" -> options.watch = true;
+                case "--stats-json" -> {
+                    options.statsJson = requireValue(args, ++i, "--stats-json");
+                    options.stats = true;
+                }
+                default -> {
+                    // Los argumentos posicionales (como el directorio de la imagen Docker) se ignoran, como antes
+                    if (args[i].startsWith("--")) {
+                        throw new ConfigurationException("Unknown option for generate: " + args[i]);
+                    }
+                }
+            }
+        }
+        return options;
+    }
+
+    // true si no se pidió ninguna opción: generate puede reenviarse al daemon
+    public boolean isDefault() {
+        return !compile && !stats && !watch;
+    }
+
+    // Regenera cada vez que cambian el esquema o sqlift.yaml, con las demás opciones en cada regeneración
+    public boolean isWatch() {
+        return watch;
+    }
+
+    public boolean isCompile() {
+        return compile;
+    }
+
+    public String getClasspath() {
+        return classpath;
+    }
+
+    // Directorio o .jar donde se escriben las clases compiladas; null para solo verificar
+    public String getCompileOutput() {
+        return compileOutput;
+    }
+
+    // Métricas por fase (tiempo, cantidad y bytes asignados)
+    public boolean isStats() {
+        return stats;
+    }
+
+    // Archivo JSON donde exportar las métricas; null para solo imprimirlas
+    public String getStatsJson() {
+        return statsJson;
+    }
+
+    private static String requireValue(String[] args, int index, String option) {
+        if (index >= args.length || args[index].startsWith("--")) {
+            throw new ConfigurationException("Missing value for " + option);
+        }
+        return args[index];
+    }
+
+    @Override
+    public String toString() {
+        return "GenerateOptions{" +
+                "compile=" + compile +
+                ", classpath='" + classpath + '\'' +
+                ", compileOutput='" + compileOutput + '\'' +
+                ", stats=" + stats +
+                ", statsJson='" + statsJson + '\'' +
+                ", watch=" + watch +
+                '}';
+    }
+}
@@ -40,15 +40,45 @@ public class InitCommand {
             sql:
                 engine: "postgres"  # Database engine (only postgres supported at the moment)
                 schema: "schema.sql"  # Path to the SQL schema file
+                parallel: false  # Optional: parse CREATE TABLE statements in parallel
+                threads: 4  # Optional: worker threads when parallel is enabled (defaults to CPU cores)
+                cache: true  # Optional: reuse unchanged tables and entities from the previous run
                 output:
                     package: "com.example.project.target"  # Base package for the generated entities
                     lombok: true  # Enable/disable Lombok annotations
+                    # archive: "build/generated/entities.jar"  # Optional: write every entity into a single .zip/.jar
+                    plurals:  # Optional: irregular plural forms used for collection fields (singular: plural)
+                        status: statuses
+                    fetch:  # Optional: how relations are loaded (defaults to the JPA defaults)
+                      lazy: true  # fetch = FetchType.LAZY on @ManyToOne
+                      batchSize: 25  # Hibernate @BatchSize on @OneToMany collections
+                      subselect: false  # Hibernate @Fetch(FetchMode.SUBSELECT) on @OneToMany collections
+                      tables:  # Optional per-table overrides
+                        audit_log:
+                          lazy: false
+                    collections:  # Optional: which inverse @OneToMany collections are generated
+                      inverse: allowlist  # all (default), none or allowlist
+                      allow: "users.orders, branches.stock"  # table.referencing_table, comma separated
+                      maxPerTable: 5  # Optional: at most N collections per entity (0 = no limit)
+                      lazyInit: true  # Optional: create each Set on first access to its getter
+                    ids:  # Optional: @GeneratedValue strategy for database-generated keys
+                      strategy: sequence  # identity (default) or sequence, which lets Hibernate batch inserts
+                      allocationSize: 1  # Must match the sequence's INCREMENT BY
+                    persistable: true  # Optional: implement Persistable<ID> when the key is assigned or composite
             ```
             
             **Field descriptions**:
             - `engine`: Defines the database engine (e.g., `postgres`, `mysql`).
             - `schema`: Path to the `.sql` file containing the database schema.
+            - `parallel` / `threads`: Optional. Process the schema on several threads; the output is identical to the sequential mode.
+            - `cache`: Optional (default `true`). Stores parsed tables and generated entities in `.sqlift/cache` so only changed tables, and the tables that reference them, are processed again.
             - `output`: Defines the package where the Java entities will be generated and whether Lombok annotations are enabled.
+            - `archive`: Optional. Path of a `.zip` or `.jar` that receives all the entities in one sequential write instead of one file per entity under `src/main/java`; it is only replaced when its content changes.
+            - `plurals`: Optional. Irregular plural forms, added to the built-in ones (`user`, `person`, `child`), used to name `@OneToMany` collections and tables.
+            - `fetch`: Optional. Emits `fetch = FetchType.LAZY` on `@ManyToOne` and Hibernate's `@BatchSize` / `@Fetch(FetchMode.SUBSELECT)` on collections to avoid N+1 queries; `tables` overrides these options for single tables.
+            - `collections`: Optional. Limits the inverse `@OneToMany` collections (`all`, `none` or an `allow` list, plus `maxPerTable`); `lazyInit` leaves them `null` until their getter is first called.
+            - `ids`: Optional. `strategy: sequence` maps SERIAL, IDENTITY and `nextval(...)` keys with `@SequenceGenerator` on the column's sequence (`<table>_<column>_seq` for SERIAL), so Hibernate can batch inserts.
+            - `persistable`: Optional. Entities with a composite or application-assigned key implement Spring Data's `Persistable<ID>` with a transient `isNew` flag cleared on `@PostLoad`/`@PostPersist`, so `save()` inserts without a `SELECT` first.
             
             ## SQL Schema Structure
             
@@ -86,9 +116,13 @@ public class InitCommand {
             **Important points**:
             - Relationships between tables must be defined within the `CREATE TABLE` statement, as shown in the examples above.
             - Be sure to use foreign keys (`FOREIGN KEY`) in the appropriate place to establish relationships between tables.
+            - `CREATE [UNIQUE] INDEX` statements become `@Index` entries in `@Table(indexes = ...)`; partial indexes are generated over the whole table and indexes on expressions are skipped.
             
             With this configuration and the correct schema, you can run `sqlift generate` to generate the corresponding Java entity classes.
             
+            Entities whose content did not change are not rewritten, and entities for tables removed from the schema are deleted.
+            SQLift keeps track of the generated files in `.sqlift/manifest`; you can add the `.sqlift/` directory to your `.gitignore`.
+            
             Ready to get started!
             """;
 
@@ -0,0 +1,139 @@
+package cl.playground.cli.commands;
+
+import cl.playground.exception.ConfigurationException;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// `sqlift generate --watch`: regenera al guardar el esquema o sqlift.yaml. La JVM, el esquema
+// procesado y el caché incremental se mantienen entre ediciones, de modo que solo se vuelven a
+// parsear las sentencias modificadas y solo se reescriben las entidades cuyo contenido cambió.
+public class SchemaWatcher {
+
+    // Los editores suelen guardar en varias escrituras (o escribir y renombrar): se agrupan en una sola regeneración
+    private static final long DEBOUNCE_MILLIS = 150;
+
+    private final GenerateCommand generateCommand;
+    private final long debounceMillis;
+
+    public SchemaWatcher(GenerateOptions options) {
+        this(new GenerateCommand(true, options), DEBOUNCE_MILLIS);
+    }
+
+    public SchemaWatcher(GenerateCommand generateCommand, long debounceMillis) {
+        this.generateCommand = generateCommand;
+        this.debounceMillis = debounceMillis;
+    }
+
+    public void run() {
+        try {
+            watch(Paths.get(System.getProperty("user.dir")), System.out, System.err);
+        } catch (IOException e) {
+            throw new ConfigurationException("Could not watch the schema: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Bloquea hasta que el hilo se interrumpe (Ctrl+C termina la JVM)
+    public void watch(Path workingDir, PrintStream out, PrintStream err) throws IOException, InterruptedException {
+        regenerate(workingDir, out, err);
+
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            Map<WatchKey, Path> directories = new HashMap<>();
+
+            while (!Thread.currentThread().isInterrupted()) {
+                // El esquema puede cambiar de ruta si se edita sqlift.yaml
+                Set<Path> watchedFiles = watchedFiles(workingDir);
+                register(watchService, watchedFiles, directories);
+                out.println("👀 Watching " + watchedFiles + " (Ctrl+C to stop)");
+
+                boolean changed = false;
+                while (!changed) {
+                    changed = drain(watchService.take(), watchedFiles, directories);
+                }
+
+                // Debounce: esperar a que no lleguen más eventos antes de regenerar
+                WatchKey key;
+                while ((key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    drain(key, watchedFiles, directories);
+                }
+
+                out.println("🔄 Change detected, regenerating...");
+                regenerate(workingDir, out, err);
+            }
+        } catch (ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void regenerate(Path workingDir, PrintStream out, PrintStream err) {
+        try {
+            generateCommand.run(workingDir, out, err);
+        } catch (ConfigurationException e) {
+            // Un error (por ejemplo, un esquema a medio editar) no detiene el modo watch
+            err.println("❌ Error: " + e.getMessage());
+        }
+    }
+
+    private Set<Path> watchedFiles(Path workingDir) {
+        Set<Path> files = new HashSet<>();
+        files.add(normalize(generateCommand.resolveConfigPath(workingDir)));
+        Path schemaPath = generateCommand.resolveSchemaPath(workingDir);
+        if (schemaPath != null) {
+            files.add(normalize(schemaPath));
+        }
+        return files;
+    }
+
+    private void register(WatchService watchService, Set<Path> files, Map<WatchKey, Path> directories) throws IOException {
+        Set<Path> registered = new HashSet<>(directories.values());
+        for (Path file : files) {
+            Path directory = file.getParent();
+            if (directory != null && !registered.contains(directory) && directory.toFile().isDirectory()) {
+                WatchKey key = directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+                directories.put(key, directory);
+                registered.add(directory);
+            }
+        }
+    }
+
+    // Retorna true si alguno de los eventos afecta a un archivo observado
+    private boolean drain(WatchKey key, Set<Path> watchedFiles, Map<WatchKey, Path> directories) {
+        Path directory = directories.get(key);
+        boolean relevant = false;
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                relevant = true;
+            } else if (directory != null && event.context() instanceof Path name) {
+                relevant |= watchedFiles.contains(normalize(directory.resolve(name)));
+            }
+        }
+
+        if (!key.reset()) {
+            directories.remove(key);
+        }
+        return relevant;
+    }
+
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+}
@@ -0,0 +1,78 @@
+package cl.playground.cli.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Cliente liviano: reenvía el comando al daemon si hay uno escuchando.
+// Si no hay daemon (o no responde) retorna false y el comando se ejecuta en proceso.
+public class DaemonClient {
+
+    private final Path socketPath;
+
+    public DaemonClient(Path socketPath) {
+        this.socketPath = socketPath;
+    }
+
+    public static boolean isEnabled() {
+        String disabled = System.getenv(DaemonProtocol.DISABLE_ENV);
+        return disabled == null || disabled.isBlank() || "false".equalsIgnoreCase(disabled);
+    }
+
+    public static boolean isRunning(Path socketPath) {
+        try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+            sendRequest(channel, DaemonProtocol.COMMAND_PING, "");
+            // Cualquier respuesta completa, también la de un daemon de otra versión, indica que está escuchando
+            DataInputStream response = new DataInputStream(Channels.newInputStream(channel));
+            response.readInt();
+            DaemonProtocol.readBytes(response);
+            DaemonProtocol.readBytes(response);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public boolean forward(String command, Path workingDir, PrintStream out, PrintStream err) {
+        if (!Files.exists(socketPath)) {
+            return false;
+        }
+
+        try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+            sendRequest(channel, command, workingDir.toAbsolutePath().toString());
+
+            DataInputStream response = new DataInputStream(Channels.newInputStream(channel));
+            int status = response.readInt();
+            byte[] stdout = DaemonProtocol.readBytes(response);
+            byte[] stderr = DaemonProtocol.readBytes(response);
+            if (status == DaemonProtocol.STATUS_VERSION_MISMATCH) {
+                err.println("ℹ️  The sqlift daemon runs a different build; generating in-process"
+                    + " (restart it with `sqlift daemon --stop`)");
+                return false;
+            }
+
+            out.write(stdout);
+            out.flush();
+            err.write(stderr);
+            err.flush();
+            return true;
+        } catch (IOException e) {
+            // Socket huérfano o daemon detenido: se ejecuta en proceso
+            return false;
+        }
+    }
+
+    private static void sendRequest(SocketChannel channel, String command, String workingDir) throws IOException {
+        DataOutputStream request = new DataOutputStream(Channels.newOutputStream(channel));
+        request.writeUTF(DaemonProtocol.buildVersion());
+        request.writeUTF(command);
+        request.writeUTF(workingDir);
+        request.flush();
+    }
+}
@@ -0,0 +1,97 @@
+package cl.playground.cli.daemon;
+
+import cl.playground.cli.CommandLineApp;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.CodeSource;
+import java.util.stream.Stream;
+
+// Protocolo entre el cliente y el daemon sobre un socket Unix local:
+//   petición:  versión del build, comando (generate, stop o ping) y directorio de trabajo (writeUTF)
+//   respuesta: estado (int) y la salida estándar y de error capturadas (longitud + bytes UTF-8)
+public class DaemonProtocol {
+
+    public static final String SOCKET_ENV = "SQLIFT_DAEMON_SOCKET";
+    public static final String DISABLE_ENV = "SQLIFT_NO_DAEMON";
+
+    public static final String COMMAND_GENERATE = "generate";
+    public static final String COMMAND_STOP = "stop";
+    // Comprobación de que hay un daemon escuchando; no produce salida
+    public static final String COMMAND_PING = "ping";
+
+    public static final int STATUS_OK = 0;
+    public static final int STATUS_ERROR = 1;
+    // El daemon corresponde a otro build de sqlift: el cliente ejecuta en proceso
+    public static final int STATUS_VERSION_MISMATCH = 2;
+
+    private static String buildVersion;
+
+    // Por defecto un socket por usuario: ~/.sqlift/daemon.sock
+    public static Path socketPath() {
+        String configured = System.getenv(SOCKET_ENV);
+        if (configured != null && !configured.isBlank()) {
+            return Paths.get(configured);
+        }
+        return Paths.get(System.getProperty("user.home"), ".sqlift", "daemon.sock");
+    }
+
+    // VERSION no cambia entre builds: se agrega el tamaño y la fecha de modificación del jar (o de las clases)
+    // para que un daemon iniciado antes de recompilar o actualizar sqlift no responda con el código anterior
+    static synchronized String buildVersion() {
+        if (buildVersion == null) {
+            buildVersion = CommandLineApp.VERSION + "+" + codeFingerprint();
+        }
+        return buildVersion;
+    }
+
+    private static String codeFingerprint() {
+        CodeSource source = DaemonProtocol.class.getProtectionDomain().getCodeSource();
+        if (source == null || source.getLocation() == null) {
+            return "unknown";
+        }
+        try {
+            Path location = Paths.get(source.getLocation().toURI());
+            if (!Files.isDirectory(location)) {
+                return Files.size(location) + "-" + Files.getLastModifiedTime(location).toMillis();
+            }
+            // Clases sin empaquetar (IDE, tests): cantidad, tamaño total y última modificación
+            try (Stream<Path> files = Files.walk(location)) {
+                long[] summary = new long[3];
+                files.filter(Files::isRegularFile).forEach(file -> {
+                    try {
+                        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                        summary[0]++;
+                        summary[1] += attributes.size();
+                        summary[2] = Math.max(summary[2], attributes.lastModifiedTime().toMillis());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                return summary[0] + "-" + summary[1] + "-" + summary[2];
+            }
+        } catch (IOException | UncheckedIOException | URISyntaxException | IllegalArgumentException e) {
+            return "unknown";
+        }
+    }
+
+    static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Invalid daemon response");
+        }
+        return in.readNBytes(length);
+    }
+}
@@ -0,0 +1,233 @@
+package cl.playground.cli.daemon;
+
+import cl.playground.cli.commands.GenerateCommand;
+import cl.playground.core.engine.PostgresEngine;
+import cl.playground.core.engine.SchemaProcessor;
+import cl.playground.core.generator.EntityGenerator;
+import cl.playground.core.model.TableMetadata;
+import cl.playground.exception.ConfigurationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// JVM de larga duración que atiende las peticiones de `sqlift generate` reenviadas por el cliente.
+// Cada conexión se atiende en su propio hilo; las generaciones se ejecutan de a una para que dos
+// peticiones sobre el mismo proyecto no se pisen.
+public class DaemonServer {
+
+    private static final String WARM_UP_SCHEMA = """
+        CREATE TABLE warm_up_users (
+            id BIGSERIAL PRIMARY KEY,
+            email VARCHAR(255) UNIQUE NOT NULL,
+            created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+        );
+        CREATE TABLE warm_up_orders (
+            order_id BIGINT REFERENCES warm_up_users(id),
+            line INT,
+            total NUMERIC(10, 2) DEFAULT 0,
+            PRIMARY KEY (order_id, line)
+        );
+        """;
+    private static final int WARM_UP_ITERATIONS = 200;
+    // Plazo para recibir la petición completa; un cliente que no la envía no retiene su hilo
+    private static final long REQUEST_TIMEOUT_SECONDS = 10;
+
+    private final Path socketPath;
+    // Conserva los esquemas ya procesados entre peticiones
+    private final GenerateCommand generateCommand;
+    private final Object generateLock = new Object();
+    private final ScheduledExecutorService deadlines = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "sqlift-daemon-deadline");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean running = true;
+
+    public DaemonServer(Path socketPath) {
+        this.socketPath = socketPath;
+        this.generateCommand = new GenerateCommand(true);
+    }
+
+    public void serve() throws IOException {
+        prepareSocketPath();
+        warmUp();
+
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(socketPath));
+            restrictToOwner(socketPath);
+            Runtime.getRuntime().addShutdownHook(new Thread(this::deleteSocket));
+            System.out.println("🚀 sqlift daemon listening on " + socketPath);
+
+            while (running) {
+                SocketChannel client;
+                try {
+                    client = server.accept();
+                } catch (ClosedChannelException e) {
+                    // `stop` cerró el socket desde el hilo de su petición
+                    break;
+                }
+                new Thread(() -> serveConnection(server, client), "sqlift-daemon-request").start();
+            }
+        } finally {
+            deadlines.shutdownNow();
+            deleteSocket();
+        }
+        System.out.println("👋 sqlift daemon stopped");
+    }
+
+    private void serveConnection(ServerSocketChannel server, SocketChannel client) {
+        try (client) {
+            if (!handle(client)) {
+                running = false;
+                server.close();
+            }
+        } catch (IOException e) {
+            // Un cliente que se desconecta a mitad de la respuesta no detiene el daemon
+            System.err.println("⚠️  Daemon request failed: " + e.getMessage());
+        }
+    }
+
+    private boolean handle(SocketChannel client) throws IOException {
+        DataInputStream in = new DataInputStream(Channels.newInputStream(client));
+        DataOutputStream out = new DataOutputStream(Channels.newOutputStream(client));
+
+        String version;
+        String command;
+        String workingDir;
+        ScheduledFuture<?> deadline = deadlines.schedule(() -> closeQuietly(client), REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        try {
+            version = in.readUTF();
+            command = in.readUTF();
+            workingDir = in.readUTF();
+        } catch (ClosedChannelException e) {
+            throw new IOException("no request received within " + REQUEST_TIMEOUT_SECONDS + " s");
+        } finally {
+            deadline.cancel(false);
+        }
+
+        // Solo generate depende del código del build; stop y ping se atienden igual para poder detener
+        // un daemon desactualizado
+        if (DaemonProtocol.COMMAND_GENERATE.equals(command) && !DaemonProtocol.buildVersion().equals(version)) {
+            out.writeInt(DaemonProtocol.STATUS_VERSION_MISMATCH);
+            DaemonProtocol.writeBytes(out, new byte[0]);
+            DaemonProtocol.writeBytes(out, new byte[0]);
+            out.flush();
+            return true;
+        }
+
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+        int status = DaemonProtocol.STATUS_OK;
+        boolean keepRunning = true;
+
+        try (PrintStream outStream = new PrintStream(stdout, true, StandardCharsets.UTF_8);
+             PrintStream errStream = new PrintStream(stderr, true, StandardCharsets.UTF_8)) {
+            switch (command) {
+                case DaemonProtocol.COMMAND_GENERATE -> {
+                    try {
+                        synchronized (generateLock) {
+                            generateCommand.run(Paths.get(workingDir), outStream, errStream);
+                        }
+                    } catch (ConfigurationException e) {
+                        errStream.println("❌ Error: " + e.getMessage());
+                        status = DaemonProtocol.STATUS_ERROR;
+                    } catch (RuntimeException e) {
+                        errStream.println("❌ An unexpected error occurred. Please contact support.");
+                        status = DaemonProtocol.STATUS_ERROR;
+                    }
+                }
+                case DaemonProtocol.COMMAND_PING -> {
+                    // Solo confirma que el daemon está escuchando
+                }
+                case DaemonProtocol.COMMAND_STOP -> {
+                    outStream.println("🛑 sqlift daemon stopping");
+                    keepRunning = false;
+                }
+                default -> {
+                    errStream.println("❌ Unknown daemon command: " + command);
+                    status = DaemonProtocol.STATUS_ERROR;
+                }
+            }
+        }
+
+        out.writeInt(status);
+        DaemonProtocol.writeBytes(out, stdout.toByteArray());
+        DaemonProtocol.writeBytes(out, stderr.toByteArray());
+        out.flush();
+        return keepRunning;
+    }
+
+    private void prepareSocketPath() throws IOException {
+        if (Files.exists(socketPath)) {
+            if (DaemonClient.isRunning(socketPath)) {
+                throw new ConfigurationException("A sqlift daemon is already listening on " + socketPath);
+            }
+            // Socket huérfano de un daemon que terminó de forma abrupta
+            Files.delete(socketPath);
+        }
+
+        Path parent = socketPath.toAbsolutePath().getParent();
+        if (parent != null && !Files.isDirectory(parent)) {
+            Files.createDirectories(parent);
+            restrictToOwner(parent);
+        }
+    }
+
+    // Solo el usuario actual puede conectarse al daemon. Un directorio existente (por ejemplo el de
+    // SQLIFT_DAEMON_SOCKET) no se modifica: basta con restringir el socket después del bind
+    private static void restrictToOwner(Path path) throws IOException {
+        try {
+            String permissions = Files.isDirectory(path) ? "rwx------" : "rw-------";
+            Files.setPosixFilePermissions(path, PosixFilePermissions.fromString(permissions));
+        } catch (UnsupportedOperationException e) {
+            // Sistema de archivos sin permisos POSIX (Windows)
+        }
+    }
+
+    private static void closeQuietly(SocketChannel client) {
+        try {
+            client.close();
+        } catch (IOException e) {
+            // El hilo de la petición recibe el cierre como ClosedChannelException
+        }
+    }
+
+    // Ejercita parser y generadores para que el JIT compile las rutas críticas antes de la primera petición
+    private void warmUp() {
+        SchemaProcessor processor = new SchemaProcessor(new PostgresEngine());
+        EntityGenerator[] generators = {new EntityGenerator(true), new EntityGenerator(false)};
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            for (TableMetadata table : processor.processSchema(WARM_UP_SCHEMA)) {
+                for (EntityGenerator generator : generators) {
+                    generator.generateEntity(table, "warm.up");
+                }
+            }
+        }
+    }
+
+    private void deleteSocket() {
+        try {
+            Files.deleteIfExists(socketPath);
+        } catch (IOException e) {
+            // Se reintenta al iniciar el próximo daemon
+        }
+    }
+}
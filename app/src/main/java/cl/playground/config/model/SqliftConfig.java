@@ -1,5 +1,10 @@
 package cl.playground.config.model;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
 public class SqliftConfig {
     private String version;
     private SqlConfig sql;
@@ -34,6 +39,9 @@ public class SqliftConfig {
     public static class SqlConfig {
         private String engine;
         private String schema;
+        private boolean parallel;
+        private int threads;
+        private boolean cache = true;
         private OutputConfig output;
 
         public SqlConfig() {
@@ -55,6 +63,30 @@ public class SqliftConfig {
             this.schema = schema;
         }
 
+        public boolean isParallel() {
+            return parallel;
+        }
+
+        public void setParallel(boolean parallel) {
+            this.parallel = parallel;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public boolean isCache() {
+            return cache;
+        }
+
+        public void setCache(boolean cache) {
+            this.cache = cache;
+        }
+
         public OutputConfig getOutput() {
             return output;
         }
@@ -68,6 +100,9 @@ public class SqliftConfig {
             return "SqlConfig{" +
                     "engine='" + engine + '\'' +
                     ", schema='" + schema + '\'' +
+                    ", parallel=" + parallel +
+                    ", threads=" + threads +
+                    ", cache=" + cache +
                     ", output=" + output +
                     '}';
         }
@@ -76,6 +111,18 @@ public class SqliftConfig {
     public static class OutputConfig {
         private String packageName;
         private boolean useLombok;
+        // Formas plurales irregulares (singular -> plural) que se suman a las predeterminadas
+        private Map<String, String> plurals = new LinkedHashMap<>();
+        // Ruta opcional de un .zip/.jar: si se define, las entidades se escriben ahí en lugar de src/main/java
+        private String archive;
+        // Estrategia de carga de las relaciones; null mantiene los valores por defecto de JPA
+        private FetchConfig fetch;
+        // Colecciones inversas (OneToMany) que se generan; null las genera todas, inicializadas
+        private CollectionsConfig collections;
+        // Estrategia de @GeneratedValue de las claves generadas; null mantiene IDENTITY
+        private IdsConfig ids;
+        // Implementar Persistable<ID> en las entidades con clave asignada o compuesta
+        private boolean persistable;
 
         public OutputConfig() {
         }
@@ -96,11 +143,209 @@ public class SqliftConfig {
             this.useLombok = useLombok;
         }
 
+        public Map<String, String> getPlurals() {
+            return plurals;
+        }
+
+        public void setPlurals(Map<String, String> plurals) {
+            this.plurals = plurals;
+        }
+
+        public String getArchive() {
+            return archive;
+        }
+
+        public void setArchive(String archive) {
+            this.archive = archive;
+        }
+
+        public FetchConfig getFetch() {
+            return fetch;
+        }
+
+        public void setFetch(FetchConfig fetch) {
+            this.fetch = fetch;
+        }
+
+        public CollectionsConfig getCollections() {
+            return collections;
+        }
+
+        public void setCollections(CollectionsConfig collections) {
+            this.collections = collections;
+        }
+
+        public IdsConfig getIds() {
+            return ids;
+        }
+
+        public void setIds(IdsConfig ids) {
+            this.ids = ids;
+        }
+
+        public boolean isPersistable() {
+            return persistable;
+        }
+
+        public void setPersistable(boolean persistable) {
+            this.persistable = persistable;
+        }
+
         @Override
         public String toString() {
             return "OutputConfig{" +
                     "packageName='" + packageName + '\'' +
                     ", useLombok=" + useLombok +
+                    ", plurals=" + plurals +
+                    ", archive='" + archive + '\'' +
+                    ", fetch=" + fetch +
+                    ", collections=" + collections +
+                    ", ids=" + ids +
+                    ", persistable=" + persistable +
+                    '}';
+        }
+    }
+
+    // Opciones de carga de relaciones. Los valores null no se configuraron: en la sección general
+    // equivalen a los de JPA y en una tabla heredan los de la sección general
+    public static class FetchConfig {
+        private Boolean lazy;
+        private Integer batchSize;
+        private Boolean subselect;
+        // Reemplazos por tabla
+        private Map<String, FetchConfig> tables = new LinkedHashMap<>();
+
+        public FetchConfig() {
+        }
+
+        public Boolean getLazy() {
+            return lazy;
+        }
+
+        public void setLazy(Boolean lazy) {
+            this.lazy = lazy;
+        }
+
+        public Integer getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(Integer batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Boolean getSubselect() {
+            return subselect;
+        }
+
+        public void setSubselect(Boolean subselect) {
+            this.subselect = subselect;
+        }
+
+        public Map<String, FetchConfig> getTables() {
+            return tables;
+        }
+
+        public void setTables(Map<String, FetchConfig> tables) {
+            this.tables = tables;
+        }
+
+        @Override
+        public String toString() {
+            return "FetchConfig{" +
+                    "lazy=" + lazy +
+                    ", batchSize=" + batchSize +
+                    ", subselect=" + subselect +
+                    ", tables=" + tables +
+                    '}';
+        }
+    }
+
+    public static class CollectionsConfig {
+        // all, none o allowlist; null equivale a all, o a allowlist si se declaró allow
+        private String inverse;
+        // Colecciones permitidas como "tabla.tabla_referenciadora"
+        private Set<String> allow = new LinkedHashSet<>();
+        // Máximo de colecciones por entidad; 0 no limita
+        private int maxPerTable;
+        private boolean lazyInit;
+
+        public CollectionsConfig() {
+        }
+
+        public String getInverse() {
+            return inverse;
+        }
+
+        public void setInverse(String inverse) {
+            this.inverse = inverse;
+        }
+
+        public Set<String> getAllow() {
+            return allow;
+        }
+
+        public void setAllow(Set<String> allow) {
+            this.allow = allow;
+        }
+
+        public int getMaxPerTable() {
+            return maxPerTable;
+        }
+
+        public void setMaxPerTable(int maxPerTable) {
+            this.maxPerTable = maxPerTable;
+        }
+
+        public boolean isLazyInit() {
+            return lazyInit;
+        }
+
+        public void setLazyInit(boolean lazyInit) {
+            this.lazyInit = lazyInit;
+        }
+
+        @Override
+        public String toString() {
+            return "CollectionsConfig{" +
+                    "inverse='" + inverse + '\'' +
+                    ", allow=" + allow +
+                    ", maxPerTable=" + maxPerTable +
+                    ", lazyInit=" + lazyInit +
+                    '}';
+        }
+    }
+
+    public static class IdsConfig {
+        // identity o sequence
+        private String strategy = "identity";
+        // Ids que Hibernate reserva por cada llamada a la secuencia; debe coincidir con su INCREMENT BY
+        private int allocationSize = 1;
+
+        public IdsConfig() {
+        }
+
+        public String getStrategy() {
+            return strategy;
+        }
+
+        public void setStrategy(String strategy) {
+            this.strategy = strategy;
+        }
+
+        public int getAllocationSize() {
+            return allocationSize;
+        }
+
+        public void setAllocationSize(int allocationSize) {
+            this.allocationSize = allocationSize;
+        }
+
+        @Override
+        public String toString() {
+            return "IdsConfig{" +
+                    "strategy='" + strategy + '\'' +
+                    ", allocationSize=" + allocationSize +
                     '}';
         }
     }
@@ -51,6 +51,12 @@ public class YamlParser {
                 sqlConfig.setEngine(extractValue(line));
             } else if (line.startsWith("schema:")) {
                 sqlConfig.setSchema(extractValue(line));
+            } else if (line.startsWith("parallel:")) {
+                sqlConfig.setParallel(Boolean.parseBoolean(extractValue(line)));
+            } else if (line.startsWith("threads:")) {
+                sqlConfig.setThreads(parseInt(extractValue(line), "threads"));
+            } else if (line.startsWith("cache:")) {
+                sqlConfig.setCache(Boolean.parseBoolean(extractValue(line)));
             } else if (line.startsWith("output:")) {
                 SqliftConfig.OutputConfig outputConfig = new SqliftConfig.OutputConfig();
                 sqlConfig.setOutput(outputConfig);
@@ -61,27 +67,191 @@ public class YamlParser {
 
     private void parseOutputConfig(BufferedReader br, SqliftConfig.OutputConfig outputConfig) throws IOException {
         String line;
+        // Indentación de "plurals:"; sus entradas "singular: plural" son las líneas más indentadas que siguen
+        int pluralsIndent = -1;
+        // Lo mismo para "fetch:", su subsección "tables:" y la tabla en curso dentro de ella
+        SqliftConfig.FetchConfig fetchConfig = null;
+        int fetchIndent = -1;
+        int tablesIndent = -1;
+        int tableIndent = -1;
+        SqliftConfig.FetchConfig tableConfig = null;
+        SqliftConfig.CollectionsConfig collectionsConfig = null;
+        int collectionsIndent = -1;
+        SqliftConfig.IdsConfig idsConfig = null;
+        int idsIndent = -1;
         while ((line = br.readLine()) != null) {
             if (!line.startsWith(INDENT + INDENT)) {
                 break;
             }
+            int indent = line.length() - line.stripLeading().length();
             line = line.trim();
             if (isSkippable(line)) {
                 continue;
             }
+            if (pluralsIndent >= 0 && indent > pluralsIndent) {
+                String[] parts = line.split(":", 2);
+                String plural = extractValue(line);
+                if (parts[0].trim().isEmpty() || plural.isEmpty()) {
+                    throw new ConfigurationException("Invalid plural form: " + line);
+                }
+                outputConfig.getPlurals().put(parts[0].trim().replace("\"", ""), plural);
+                continue;
+            }
+            pluralsIndent = -1;
 
-            if (line.startsWith("package:")) {
+            if (fetchIndent >= 0 && indent > fetchIndent) {
+                if (tablesIndent >= 0 && indent > tablesIndent) {
+                    if (tableConfig != null && indent > tableIndent) {
+                        parseFetchOption(line, tableConfig);
+                    } else {
+                        String tableName = line.split(":", 2)[0].trim().replace("\"", "");
+                        if (tableName.isEmpty() || !extractValue(line).isEmpty()) {
+                            throw new ConfigurationException("Invalid fetch table: " + line);
+                        }
+                        tableConfig = new SqliftConfig.FetchConfig();
+                        tableIndent = indent;
+                        fetchConfig.getTables().put(tableName.toLowerCase(), tableConfig);
+                    }
+                    continue;
+                }
+                tablesIndent = -1;
+                tableConfig = null;
+                if (line.startsWith("tables:")) {
+                    tablesIndent = indent;
+                } else {
+                    parseFetchOption(line, fetchConfig);
+                }
+                continue;
+            }
+            fetchIndent = -1;
+            tablesIndent = -1;
+            tableConfig = null;
+
+            if (collectionsIndent >= 0 && indent > collectionsIndent) {
+                parseCollectionsOption(line, collectionsConfig);
+                continue;
+            }
+            collectionsIndent = -1;
+
+            if (idsIndent >= 0 && indent > idsIndent) {
+                parseIdsOption(line, idsConfig);
+                continue;
+            }
+            idsIndent = -1;
+
+            if (line.startsWith("plurals:")) {
+                pluralsIndent = indent;
+            } else if (line.startsWith("package:")) {
                 outputConfig.setPackageName(extractValue(line));
             } else if (line.startsWith("lombok:")) {
                 // Llamada al método parseOptions si necesitas parsear más opciones
                 outputConfig.setUseLombok(Boolean.parseBoolean(extractValue(line)));
+            } else if (line.startsWith("persistable:")) {
+                outputConfig.setPersistable(Boolean.parseBoolean(extractValue(line)));
+            } else if (line.startsWith("archive:")) {
+                outputConfig.setArchive(extractValue(line));
+            } else if (line.startsWith("fetch:")) {
+                fetchConfig = new SqliftConfig.FetchConfig();
+                fetchIndent = indent;
+                outputConfig.setFetch(fetchConfig);
+            } else if (line.startsWith("collections:")) {
+                collectionsConfig = new SqliftConfig.CollectionsConfig();
+                collectionsIndent = indent;
+                outputConfig.setCollections(collectionsConfig);
+            } else if (line.startsWith("ids:")) {
+                idsConfig = new SqliftConfig.IdsConfig();
+                idsIndent = indent;
+                outputConfig.setIds(idsConfig);
+            }
+        }
+    }
+
+    private void parseFetchOption(String line, SqliftConfig.FetchConfig fetchConfig) {
+        if (line.startsWith("lazy:")) {
+            fetchConfig.setLazy(Boolean.parseBoolean(extractValue(line)));
+        } else if (line.startsWith("batchSize:")) {
+            int batchSize = parseInt(extractValue(line), "batchSize");
+            if (batchSize < 0) {
+                throw new ConfigurationException("Invalid value for 'batchSize': " + batchSize);
+            }
+            fetchConfig.setBatchSize(batchSize);
+        } else if (line.startsWith("subselect:")) {
+            fetchConfig.setSubselect(Boolean.parseBoolean(extractValue(line)));
+        }
+    }
+
+    private void parseCollectionsOption(String line, SqliftConfig.CollectionsConfig collectionsConfig) {
+        if (line.startsWith("inverse:")) {
+            String inverse = extractValue(line).toLowerCase();
+            if (!inverse.equals("all") && !inverse.equals("none") && !inverse.equals("allowlist")) {
+                throw new ConfigurationException("Invalid value for 'inverse' (all, none or allowlist): " + inverse);
+            }
+            collectionsConfig.setInverse(inverse);
+        } else if (line.startsWith("allow:")) {
+            // Lista separada por comas: el parser no admite secuencias YAML
+            for (String entry : extractValue(line).split(",")) {
+                String collection = entry.trim().toLowerCase();
+                if (collection.isEmpty()) {
+                    continue;
+                }
+                String[] tables = collection.split("\\.");
+                if (tables.length != 2 || tables[0].isEmpty() || tables[1].isEmpty()) {
+                    throw new ConfigurationException("Invalid collection (expected table.referencing_table): " + entry.trim());
+                }
+                collectionsConfig.getAllow().add(collection);
             }
+        } else if (line.startsWith("maxPerTable:")) {
+            int maxPerTable = parseInt(extractValue(line), "maxPerTable");
+            if (maxPerTable < 0) {
+                throw new ConfigurationException("Invalid value for 'maxPerTable': " + maxPerTable);
+            }
+            collectionsConfig.setMaxPerTable(maxPerTable);
+        } else if (line.startsWith("lazyInit:")) {
+            collectionsConfig.setLazyInit(Boolean.parseBoolean(extractValue(line)));
+        }
+    }
+
+    private void parseIdsOption(String line, SqliftConfig.IdsConfig idsConfig) {
+        if (line.startsWith("strategy:")) {
+            String strategy = extractValue(line).toLowerCase();
+            if (!strategy.equals("identity") && !strategy.equals("sequence")) {
+                throw new ConfigurationException("Invalid value for 'strategy' (identity or sequence): " + strategy);
+            }
+            idsConfig.setStrategy(strategy);
+        } else if (line.startsWith("allocationSize:")) {
+            int allocationSize = parseInt(extractValue(line), "allocationSize");
+            if (allocationSize < 1) {
+                throw new ConfigurationException("Invalid value for 'allocationSize': " + allocationSize);
+            }
+            idsConfig.setAllocationSize(allocationSize);
         }
     }
 
     private String extractValue(String line) {
         String[] parts = line.split(":", 2);
-        return parts.length > 1 ? parts[1].trim().replace("\"", "") : "";
+        return parts.length > 1 ? stripComment(parts[1]).trim().replace("\"", "") : "";
+    }
+
+    // Comentario al final de la línea ("valor  # comentario"); un # dentro de comillas no lo inicia
+    private String stripComment(String value) {
+        boolean quoted = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == '#' && !quoted && (i == 0 || Character.isWhitespace(value.charAt(i - 1)))) {
+                return value.substring(0, i);
+            }
+        }
+        return value;
+    }
+
+    private int parseInt(String value, String field) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ConfigurationException("Invalid value for '" + field + "': " + value);
+        }
     }
 
     private boolean isSkippable(String line) {
@@ -101,6 +271,13 @@ public class YamlParser {
         if (output == null || output.getPackageName() == null || output.getPackageName().trim().isEmpty()) {
             throw new ConfigurationException("Output package configuration is required");
         }
+        String archive = output.getArchive();
+        if (archive != null && !archive.isEmpty()) {
+            String extension = archive.toLowerCase();
+            if (!extension.endsWith(".zip") && !extension.endsWith(".jar")) {
+                throw new ConfigurationException("Output archive must be a .zip or .jar file: " + archive);
+            }
+        }
     }
 
     private void checkNotNullOrEmpty(String value, String errorMessage) {
@@ -0,0 +1,266 @@
+package cl.playground.core.cache;
+
+import cl.playground.core.engine.SqlLexer;
+import cl.playground.core.engine.SqlToken;
+import cl.playground.core.model.TableMetadata;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Caché incremental entre ejecuciones, en dos niveles:
+//  - sentencias: huella de los tokens de la sentencia CREATE TABLE -> TableMetadata ya parseada
+//  - entidades: huella de la tabla final (con relaciones inversas) + configuración -> código generado
+// Como la huella de la entidad incluye las relaciones inversas, un cambio en una tabla referenciada
+// regenera también las entidades que dependen de ella. Es seguro usarla desde varios hilos.
+public class GenerationCache {
+
+    public static final String DEFAULT_DIRECTORY = ".sqlift/cache";
+
+    // Incrementar cuando cambie el formato del caché, la salida del parser o el código que generan las factories
+    private static final String FORMAT_VERSION = "5";
+    private static final String STATEMENTS_FILE = "statements";
+    private static final String ENTITIES_DIRECTORY = "entities";
+    private static final String ENTITY_EXTENSION = ".java.cache";
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(GenerationCache::sha256);
+
+    private final Path directory;
+    private final Path entitiesDirectory;
+    private final String configurationKey;
+    private final Map<String, String> previousStatements;
+    private final Map<String, String> currentStatements;
+    private final Set<String> usedEntities;
+
+    private final AtomicInteger statementHits = new AtomicInteger();
+    private final AtomicInteger statementMisses = new AtomicInteger();
+    private final AtomicInteger entityHits = new AtomicInteger();
+    private final AtomicInteger entityMisses = new AtomicInteger();
+
+    // configurationKey describe todo lo que, además de la tabla, influye en el código generado
+    public GenerationCache(Path directory, String configurationKey) throws IOException {
+        this.directory = directory;
+        this.entitiesDirectory = directory.resolve(ENTITIES_DIRECTORY);
+        this.configurationKey = FORMAT_VERSION + "|" + configurationKey;
+        this.previousStatements = readStatements(directory.resolve(STATEMENTS_FILE));
+        this.currentStatements = new ConcurrentHashMap<>();
+        this.usedEntities = ConcurrentHashMap.newKeySet();
+    }
+
+    // Retorna una copia nueva de la tabla cacheada o null si la sentencia cambió
+    public TableMetadata getTable(String statement) {
+        String fingerprint = fingerprint(statement);
+        String encoded = previousStatements.get(fingerprint);
+        if (encoded != null) {
+            try {
+                TableMetadata table = TableMetadataCodec.decode(encoded);
+                currentStatements.put(fingerprint, encoded);
+                statementHits.incrementAndGet();
+                return table;
+            } catch (RuntimeException e) {
+                // Entrada corrupta: se vuelve a parsear
+            }
+        }
+        statementMisses.incrementAndGet();
+        return null;
+    }
+
+    // Debe llamarse antes de agregar las relaciones inversas, que dependen de otras sentencias
+    public void putTable(String statement, TableMetadata table) {
+        currentStatements.put(fingerprint(statement), TableMetadataCodec.encode(table));
+    }
+
+    public String getEntity(TableMetadata table, String packageName) throws IOException {
+        String key = entityKey(table, packageName);
+        Path file = entitiesDirectory.resolve(key + ENTITY_EXTENSION);
+        if (Files.isRegularFile(file)) {
+            usedEntities.add(key);
+            entityHits.incrementAndGet();
+            return Files.readString(file, StandardCharsets.UTF_8);
+        }
+        entityMisses.incrementAndGet();
+        return null;
+    }
+
+    public void putEntity(TableMetadata table, String packageName, String content) throws IOException {
+        try (EntityOutput output = openEntity(table, packageName)) {
+            output.getWriter().write(content);
+            output.commit();
+        }
+    }
+
+    // Versión en streaming de getEntity: copia la entidad cacheada en out con un buffer fijo
+    public boolean copyEntity(TableMetadata table, String packageName, Appendable out) throws IOException {
+        String key = entityKey(table, packageName);
+        Path file = entitiesDirectory.resolve(key + ENTITY_EXTENSION);
+        if (!Files.isRegularFile(file)) {
+            entityMisses.incrementAndGet();
+            return false;
+        }
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            char[] buffer = new char[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.append(CharBuffer.wrap(buffer, 0, read));
+            }
+        }
+        usedEntities.add(key);
+        entityHits.incrementAndGet();
+        return true;
+    }
+
+    // Versión en streaming de putEntity: la entrada solo queda en el caché si se confirma con commit()
+    public EntityOutput openEntity(TableMetadata table, String packageName) throws IOException {
+        String key = entityKey(table, packageName);
+        Files.createDirectories(entitiesDirectory);
+        return new EntityOutput(key, Files.createTempFile(entitiesDirectory, key, ".tmp"));
+    }
+
+    // Guarda solo las entradas usadas en esta ejecución y elimina las entidades obsoletas.
+    // Si el esquema no se volvió a parsear (el daemon lo tenía en memoria) se conservan las sentencias previas.
+    public void save() throws IOException {
+        boolean parsed = statementHits.get() + statementMisses.get() > 0;
+        Map<String, String> statements = parsed ? currentStatements : previousStatements;
+
+        Files.createDirectories(directory);
+        try (BufferedWriter out = Files.newBufferedWriter(directory.resolve(STATEMENTS_FILE), StandardCharsets.UTF_8)) {
+            out.write(FORMAT_VERSION);
+            out.newLine();
+            for (Map.Entry<String, String> entry : statements.entrySet()) {
+                out.write(entry.getKey());
+                out.write('\t');
+                out.write(entry.getValue());
+                out.newLine();
+            }
+        }
+
+        if (Files.isDirectory(entitiesDirectory)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(entitiesDirectory)) {
+                for (Path file : files) {
+                    String name = file.getFileName().toString();
+                    boolean used = name.endsWith(ENTITY_EXTENSION)
+                        && usedEntities.contains(name.substring(0, name.length() - ENTITY_EXTENSION.length()));
+                    if (!used) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            }
+        }
+    }
+
+    public int getStatementHits() {
+        return statementHits.get();
+    }
+
+    public int getStatementMisses() {
+        return statementMisses.get();
+    }
+
+    public int getEntityHits() {
+        return entityHits.get();
+    }
+
+    public int getEntityMisses() {
+        return entityMisses.get();
+    }
+
+    // Huella de los tokens de la sentencia: los espacios y comentarios no la alteran, los literales se
+    // conservan tal cual. Cada token se escribe como tipo, largo y texto para que dos secuencias distintas
+    // no produzcan el mismo texto
+    static String fingerprint(String statement) {
+        StringBuilder normalized = new StringBuilder(statement.length());
+        for (SqlToken token : SqlLexer.tokenize(statement)) {
+            normalized.append(token.getType().ordinal())
+                .append(token.getText().length())
+                .append(':')
+                .append(token.getText());
+        }
+        return hash(normalized.toString());
+    }
+
+    private String entityKey(TableMetadata table, String packageName) {
+        return hash(configurationKey + "|" + packageName + "|" + TableMetadataCodec.encode(table));
+    }
+
+    private static String hash(String value) {
+        return HexFormat.of().formatHex(DIGEST.get().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public final class EntityOutput implements Closeable {
+        private final String key;
+        private final Path temporary;
+        private final Writer writer;
+        private boolean committed;
+
+        private EntityOutput(String key, Path temporary) throws IOException {
+            this.key = key;
+            this.temporary = temporary;
+            this.writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8);
+        }
+
+        public Writer getWriter() {
+            return writer;
+        }
+
+        public void commit() throws IOException {
+            writer.close();
+            Files.move(temporary, entitiesDirectory.resolve(key + ENTITY_EXTENSION), StandardCopyOption.REPLACE_EXISTING);
+            usedEntities.add(key);
+            committed = true;
+        }
+
+        // Sin commit (por ejemplo, si la generación falló) la entrada parcial se descarta
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                writer.close();
+                Files.deleteIfExists(temporary);
+            }
+        }
+    }
+
+    private static Map<String, String> readStatements(Path file) throws IOException {
+        Map<String, String> statements = new ConcurrentHashMap<>();
+        if (!Files.isRegularFile(file)) {
+            return statements;
+        }
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        // Un caché de otra versión se descarta completo
+        if (lines.isEmpty() || !lines.get(0).equals(FORMAT_VERSION)) {
+            return statements;
+        }
+        for (String line : lines.subList(1, lines.size())) {
+            int separator = line.indexOf('\t');
+            if (separator > 0) {
+                statements.put(line.substring(0, separator), line.substring(separator + 1));
+            }
+        }
+        return statements;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
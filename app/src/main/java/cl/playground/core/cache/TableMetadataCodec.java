@@ -0,0 +1,178 @@
+package cl.playground.core.cache;
+
+import cl.playground.core.model.ColumnMetadata;
+import cl.playground.core.model.IndexMetadata;
+import cl.playground.core.model.RelationMetadata;
+import cl.playground.core.model.TableMetadata;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Serializa TableMetadata en una sola línea de texto: campos separados por tabulador,
+// con '\', tabulador y saltos de línea escapados y null representado como "\0".
+public class TableMetadataCodec {
+
+    private static final char SEPARATOR = '\t';
+    private static final String NULL = "\\0";
+
+    public static String encode(TableMetadata table) {
+        List<String> fields = new ArrayList<>();
+        fields.add(table.getTableName());
+
+        fields.add(String.valueOf(table.getColumns().size()));
+        for (ColumnMetadata column : table.getColumns()) {
+            fields.add(column.getColumnName());
+            fields.add(column.getColumnType());
+            fields.add(String.valueOf(column.isNotNull()));
+            fields.add(String.valueOf(column.isUnique()));
+            fields.add(column.getDefaultValue());
+            fields.add(column.getIdentity());
+        }
+
+        fields.add(String.valueOf(table.getPrimaryKeys().size()));
+        fields.addAll(table.getPrimaryKeys());
+
+        fields.add(String.valueOf(table.getRelations().size()));
+        for (RelationMetadata relation : table.getRelations()) {
+            fields.add(relation.getSourceColumn());
+            fields.add(relation.getTargetTable());
+            fields.add(relation.getTargetColumn());
+            fields.add(String.valueOf(relation.isManyToOne()));
+        }
+
+        fields.add(String.valueOf(table.getIndexes().size()));
+        for (IndexMetadata index : table.getIndexes()) {
+            fields.add(index.getIndexName());
+            fields.add(String.valueOf(index.isUnique()));
+            fields.add(index.getPredicate());
+            fields.add(String.valueOf(index.hasExpressions()));
+            fields.add(String.valueOf(index.getColumns().size()));
+            fields.addAll(index.getColumns());
+        }
+
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                line.append(SEPARATOR);
+            }
+            escape(fields.get(i), line);
+        }
+        return line.toString();
+    }
+
+    public static TableMetadata decode(String line) {
+        Reader reader = new Reader(line);
+        TableMetadata table = new TableMetadata();
+        table.setTableName(reader.next());
+
+        int columnCount = reader.nextInt();
+        List<ColumnMetadata> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            ColumnMetadata column = new ColumnMetadata(reader.next(), reader.next());
+            column.setNotNull(reader.nextBoolean());
+            column.setUnique(reader.nextBoolean());
+            column.setDefaultValue(reader.next());
+            column.setIdentity(reader.next());
+            columns.add(column);
+        }
+        table.setColumns(columns);
+
+        int primaryKeyCount = reader.nextInt();
+        List<String> primaryKeys = new ArrayList<>(primaryKeyCount);
+        for (int i = 0; i < primaryKeyCount; i++) {
+            primaryKeys.add(reader.next());
+        }
+        table.setPrimaryKeys(primaryKeys);
+
+        int relationCount = reader.nextInt();
+        List<RelationMetadata> relations = new ArrayList<>(relationCount);
+        for (int i = 0; i < relationCount; i++) {
+            relations.add(new RelationMetadata(reader.next(), reader.next(), reader.next(), reader.nextBoolean()));
+        }
+        table.setRelations(relations);
+
+        int indexCount = reader.nextInt();
+        List<IndexMetadata> indexes = new ArrayList<>(indexCount);
+        for (int i = 0; i < indexCount; i++) {
+            IndexMetadata index = new IndexMetadata();
+            index.setTableName(table.getTableName());
+            index.setIndexName(reader.next());
+            index.setUnique(reader.nextBoolean());
+            index.setPredicate(reader.next());
+            index.setHasExpressions(reader.nextBoolean());
+            int indexColumnCount = reader.nextInt();
+            List<String> indexColumns = new ArrayList<>(indexColumnCount);
+            for (int c = 0; c < indexColumnCount; c++) {
+                indexColumns.add(reader.next());
+            }
+            index.setColumns(indexColumns);
+            indexes.add(index);
+        }
+        table.setIndexes(indexes);
+
+        return table;
+    }
+
+    private static void escape(String value, StringBuilder out) {
+        if (value == null) {
+            out.append(NULL);
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case '\t' -> out.append("\\t");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    private static class Reader {
+        private final String line;
+        private int pos;
+
+        private Reader(String line) {
+            this.line = line;
+            this.pos = 0;
+        }
+
+        private String next() {
+            if (pos > line.length()) {
+                throw new IllegalArgumentException("Truncated cache entry");
+            }
+            if (line.startsWith(NULL, pos) && (pos + NULL.length() == line.length() || line.charAt(pos + NULL.length()) == SEPARATOR)) {
+                pos += NULL.length() + 1;
+                return null;
+            }
+
+            StringBuilder value = new StringBuilder();
+            while (pos < line.length() && line.charAt(pos) != SEPARATOR) {
+                char c = line.charAt(pos++);
+                if (c == '\\' && pos < line.length()) {
+                    char escaped = line.charAt(pos++);
+                    value.append(switch (escaped) {
+                        case 't' -> '\t';
+                        case 'n' -> '\n';
+                        case 'r' -> '\r';
+                        default -> escaped;
+                    });
+                } else {
+                    value.append(c);
+                }
+            }
+            pos++;
+            return value.toString();
+        }
+
+        private int nextInt() {
+            return Integer.parseInt(next());
+        }
+
+        private boolean nextBoolean() {
+            return Boolean.parseBoolean(next());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package cl.playground.core.compiler;
+
+import java.util.List;
+import java.util.Map;
+
+public class CompilationResult {
+    public static final String GENERAL = "*";
+
+    private final boolean success;
+    private final int sources;
+    // Tabla -> errores de su entidad; los errores sin archivo de origen quedan bajo GENERAL
+    private final Map<String, List<String>> errorsByTable;
+    private final Map<String, byte[]> classes;
+    private final long nanos;
+
+    public CompilationResult(boolean success, int sources, Map<String, List<String>> errorsByTable,
+                             Map<String, byte[]> classes, long nanos) {
+        this.success = success;
+        this.sources = sources;
+        this.errorsByTable = errorsByTable;
+        this.classes = classes;
+        this.nanos = nanos;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public int getSources() {
+        return sources;
+    }
+
+    public Map<String, List<String>> getErrorsByTable() {
+        return errorsByTable;
+    }
+
+    public int getErrorCount() {
+        return errorsByTable.values().stream().mapToInt(List::size).sum();
+    }
+
+    // Nombre binario -> bytecode
+    public Map<String, byte[]> getClasses() {
+        return classes;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "CompilationResult{" +
+                "success=" + success +
+                ", sources=" + sources +
+                ", errors=" + getErrorCount() +
+                ", classes=" + classes.size() +
+                ", nanos=" + nanos +
+                '}';
+    }
+}
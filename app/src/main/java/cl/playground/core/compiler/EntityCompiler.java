@@ -0,0 +1,120 @@
+package cl.playground.core.compiler;
+
+import cl.playground.exception.ConfigurationException;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+// Compila en memoria las entidades generadas con javax.tools: las fuentes se entregan como texto y el
+// bytecode queda en memoria, sin ida y vuelta al disco. Es una verificación rápida de que las entidades
+// compilan, sin ejecutar el build completo del proyecto.
+public class EntityCompiler {
+
+    private final String classpath;
+
+    // classpath debe incluir jakarta.persistence (y Lombok si las entidades lo usan)
+    public EntityCompiler(String classpath) {
+        this.classpath = classpath;
+    }
+
+    // sources: nombre de clase -> código; tables: nombre de clase -> tabla, para agrupar los errores por tabla
+    public CompilationResult compile(String packageName, Map<String, String> sources, Map<String, String> tables)
+        throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new ConfigurationException("In-memory compilation requires a JDK: no system Java compiler available");
+        }
+
+        List<InMemoryFileManager.SourceFile> units = new ArrayList<>(sources.size());
+        sources.forEach((className, content) -> units.add(new InMemoryFileManager.SourceFile(packageName, className, content)));
+
+        List<String> options = new ArrayList<>();
+        if (classpath != null && !classpath.isEmpty()) {
+            options.add("-classpath");
+            options.add(classpath);
+            // Un -processorpath explícito habilita los procesadores del classpath (Lombok) en cualquier versión del JDK
+            options.add("-processorpath");
+            options.add(classpath);
+        } else {
+            options.add("-proc:none");
+        }
+
+        long start = System.nanoTime();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        boolean success;
+        Map<String, byte[]> classes;
+        try (InMemoryFileManager fileManager = new InMemoryFileManager(
+            compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8))) {
+            success = compiler.getTask(null, fileManager, diagnostics, options, null, units).call();
+            classes = fileManager.getClasses();
+        }
+        long nanos = System.nanoTime() - start;
+
+        return new CompilationResult(success, units.size(), groupErrors(diagnostics, tables), classes, nanos);
+    }
+
+    // Escribe los .class en un directorio o, si target termina en .jar, en un jar
+    public void writeClasses(CompilationResult result, Path target) throws IOException {
+        if (target.getFileName().toString().toLowerCase().endsWith(".jar")) {
+            writeJar(result.getClasses(), target);
+            return;
+        }
+        for (Map.Entry<String, byte[]> entry : result.getClasses().entrySet()) {
+            Path file = target.resolve(entry.getKey().replace('.', '/') + ".class");
+            Files.createDirectories(file.getParent());
+            Files.write(file, entry.getValue());
+        }
+    }
+
+    private void writeJar(Map<String, byte[]> classes, Path target) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(target));
+             JarOutputStream jar = new JarOutputStream(file, manifest)) {
+            for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+                jar.putNextEntry(new JarEntry(entry.getKey().replace('.', '/') + ".class"));
+                jar.write(entry.getValue());
+                jar.closeEntry();
+            }
+        }
+    }
+
+    private Map<String, List<String>> groupErrors(DiagnosticCollector<JavaFileObject> diagnostics,
+                                                  Map<String, String> tables) {
+        Map<String, List<String>> errors = new LinkedHashMap<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() != Diagnostic.Kind.ERROR) {
+                continue;
+            }
+            String table = CompilationResult.GENERAL;
+            String location = "";
+            if (diagnostic.getSource() instanceof InMemoryFileManager.SourceFile source) {
+                table = tables.getOrDefault(source.getClassName(), source.getClassName());
+                location = source.getClassName() + ".java:" + diagnostic.getLineNumber() + ": ";
+            }
+            errors.computeIfAbsent(table, key -> new ArrayList<>()).add(location + diagnostic.getMessage(Locale.ROOT));
+        }
+        return errors;
+    }
+}
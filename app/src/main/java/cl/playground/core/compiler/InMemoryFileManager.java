@@ -0,0 +1,107 @@
+package cl.playground.core.compiler;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Administrador de archivos del compilador que deja en memoria todo lo que escribe javac: las clases
+// compiladas y las fuentes y recursos de los procesadores de anotaciones. Las clases de la biblioteca
+// y del classpath se siguen leyendo a través del administrador estándar
+class InMemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+    // Nombre binario -> bytecode, ordenado para que el jar resultante no dependa del orden de compilación
+    private final Map<String, MemoryFile> classes = new TreeMap<>();
+
+    InMemoryFileManager(StandardJavaFileManager fileManager) {
+        super(fileManager);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind,
+                                               FileObject sibling) {
+        MemoryFile file = new MemoryFile(className.replace('.', '/') + kind.extension, kind);
+        // Las fuentes generadas por procesadores (por ejemplo el metamodelo JPA) se compilan en la ronda
+        // siguiente, por eso se leen desde el mismo archivo en memoria
+        if (kind == JavaFileObject.Kind.CLASS) {
+            classes.put(className, file);
+        }
+        return file;
+    }
+
+    // Recursos de los procesadores (Filer.createResource): sin -d el administrador estándar los escribiría
+    // en el directorio actual. Quedan en memoria y no forman parte del resultado
+    @Override
+    public FileObject getFileForOutput(Location location, String packageName, String relativeName,
+                                       FileObject sibling) {
+        String path = packageName.isEmpty() ? relativeName : packageName.replace('.', '/') + "/" + relativeName;
+        return new MemoryFile(path, JavaFileObject.Kind.OTHER);
+    }
+
+    Map<String, byte[]> getClasses() {
+        Map<String, byte[]> bytecode = new TreeMap<>();
+        classes.forEach((name, file) -> bytecode.put(name, file.bytes.toByteArray()));
+        return bytecode;
+    }
+
+    static class SourceFile extends SimpleJavaFileObject {
+        private final String className;
+        private final String content;
+
+        SourceFile(String packageName, String className, String content) {
+            super(URI.create("string:///" + packageName.replace('.', '/') + "/" + className + Kind.SOURCE.extension),
+                Kind.SOURCE);
+            this.className = className;
+            this.content = content;
+        }
+
+        String getClassName() {
+            return className;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+
+    private static class MemoryFile extends SimpleJavaFileObject {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        private MemoryFile(String path, Kind kind) {
+            super(URI.create("mem:///" + path), kind);
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            bytes.reset();
+            return bytes;
+        }
+
+        @Override
+        public Writer openWriter() {
+            return new OutputStreamWriter(openOutputStream(), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public InputStream openInputStream() {
+            return new ByteArrayInputStream(bytes.toByteArray());
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return bytes.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
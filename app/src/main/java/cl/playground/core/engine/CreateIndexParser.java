@@ -0,0 +1,128 @@
+package cl.playground.core.engine;
+
+import cl.playground.core.model.IndexMetadata;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// CREATE [UNIQUE] INDEX [CONCURRENTLY] [[IF NOT EXISTS] nombre] ON [ONLY] tabla [USING método]
+//     (elemento [, ...]) [INCLUDE (...)] [NULLS [NOT] DISTINCT] [WITH (...)] [TABLESPACE t] [WHERE condición]
+public class CreateIndexParser extends SqlTokenParser {
+
+    public CreateIndexParser(String sql) {
+        super(sql);
+    }
+
+    // Indica si la sentencia que comienza en 'index' es un CREATE [UNIQUE] INDEX
+    public static boolean isCreateIndex(List<SqlToken> tokens, int index, int end) {
+        if (index >= end || !tokens.get(index).isKeyword("CREATE")) {
+            return false;
+        }
+        int i = index + 1;
+        if (i < end && tokens.get(i).isKeyword("UNIQUE")) {
+            i++;
+        }
+        return i < end && tokens.get(i).isKeyword("INDEX");
+    }
+
+    // null si la sentencia no es un CREATE INDEX completo
+    public IndexMetadata parse() {
+        if (!isCreateIndex(tokens, 0, tokens.size())) {
+            return null;
+        }
+        IndexMetadata index = new IndexMetadata();
+        int i = 1;
+        if (tokens.get(i).isKeyword("UNIQUE")) {
+            index.setUnique(true);
+            i++;
+        }
+        i++;
+        if (i < tokens.size() && tokens.get(i).isKeyword("CONCURRENTLY")) {
+            i++;
+        }
+        if (i + 2 < tokens.size() && tokens.get(i).isKeyword("IF")
+            && tokens.get(i + 1).isKeyword("NOT") && tokens.get(i + 2).isKeyword("EXISTS")) {
+            i += 3;
+        }
+        if (i < tokens.size() && tokens.get(i).isName() && !tokens.get(i).isKeyword("ON")) {
+            index.setIndexName(tokens.get(i).getText());
+            i++;
+        }
+        if (i + 1 >= tokens.size() || !tokens.get(i).isKeyword("ON")) {
+            return null;
+        }
+        i++;
+        if (tokens.get(i).isKeyword("ONLY")) {
+            i++;
+        }
+        if (i >= tokens.size() || !tokens.get(i).isName()) {
+            return null;
+        }
+        int[] next = new int[1];
+        index.setTableName(qualifiedName(i, next));
+        i = next[0];
+        if (i + 1 < tokens.size() && tokens.get(i).isKeyword("USING")) {
+            i += 2;
+        }
+        if (i >= tokens.size() || !tokens.get(i).isSymbol('(')) {
+            return null;
+        }
+
+        int close = matchingParen(i);
+        List<String> columns = new ArrayList<>();
+        for (int[] element : splitElements(i + 1, close)) {
+            columns.add(parseElement(element[0], element[1], index));
+        }
+        if (columns.isEmpty()) {
+            return null;
+        }
+        index.setColumns(columns);
+
+        int end = tokens.size();
+        if (end > 0 && tokens.get(end - 1).isSymbol(';')) {
+            end--;
+        }
+        for (int j = close + 1; j < end; j++) {
+            if (tokens.get(j).isSymbol('(')) {
+                j = matchingParen(j);
+            } else if (tokens.get(j).isKeyword("WHERE") && j + 1 < end) {
+                index.setPredicate(text(j + 1, end));
+                break;
+            }
+        }
+
+        if (index.getIndexName() == null) {
+            index.setIndexName(defaultName(index));
+        }
+        return index;
+    }
+
+    // columna [COLLATE c] [opclass] [ASC | DESC] [NULLS {FIRST | LAST}]; cualquier otra forma es una expresión
+    private String parseElement(int from, int to, IndexMetadata index) {
+        boolean column = tokens.get(from).isName()
+            && (from + 1 == to || (!tokens.get(from + 1).isSymbol('(') && !tokens.get(from + 1).isSymbol('.')));
+        if (!column) {
+            index.setHasExpressions(true);
+            return text(from, to);
+        }
+        String name = CreateTableParser.sanitizeIdentifier(tokens.get(from).getText());
+        for (int i = from + 1; i < to; i++) {
+            if (tokens.get(i).isKeyword("DESC")) {
+                return name + " DESC";
+            }
+        }
+        return name;
+    }
+
+    // Nombre que asigna Postgres a un índice sin nombre: tabla_columna1_columna2_idx (tabla_expr_idx con expresiones)
+    private String defaultName(IndexMetadata index) {
+        String table = index.getTableName();
+        StringBuilder name = new StringBuilder(table.substring(table.lastIndexOf('.') + 1));
+        if (index.hasExpressions()) {
+            name.append("_expr");
+        } else {
+            index.getColumns().forEach(column -> name.append('_').append(column.replace(" DESC", "")));
+        }
+        return name.append("_idx").toString();
+    }
+}
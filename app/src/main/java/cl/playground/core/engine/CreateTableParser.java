@@ -0,0 +1,337 @@
+package cl.playground.core.engine;
+
+import cl.playground.core.model.ColumnMetadata;
+import cl.playground.core.model.RelationMetadata;
+import cl.playground.core.model.TableMetadata;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public class CreateTableParser extends SqlTokenParser {
+
+    public CreateTableParser(String sql) {
+        super(sql);
+    }
+
+    // Indica si la sentencia que comienza en 'index' es un CREATE [TEMP|UNLOGGED] TABLE
+    public static boolean isCreateTable(List<SqlToken> tokens, int index, int end) {
+        return tableKeywordIndex(tokens, index, end) >= 0;
+    }
+
+    public String parseTableName() {
+        int nameIndex = tableNameIndex();
+        if (nameIndex < 0) {
+            return null;
+        }
+        return qualifiedName(nameIndex, new int[1]);
+    }
+
+    // Recorre el CREATE TABLE completo en una sola pasada
+    public TableMetadata parse() {
+        TableMetadata table = new TableMetadata();
+        List<ColumnMetadata> columns = new ArrayList<>();
+        Set<String> primaryKeys = new LinkedHashSet<>();
+        List<RelationMetadata> relations = new ArrayList<>();
+
+        int nameIndex = tableNameIndex();
+        if (nameIndex >= 0) {
+            int[] next = new int[1];
+            table.setTableName(qualifiedName(nameIndex, next));
+
+            int open = next[0];
+            if (open < tokens.size() && tokens.get(open).isSymbol('(')) {
+                int close = matchingParen(open);
+                for (int[] element : splitElements(open + 1, close)) {
+                    if (isTableConstraint(element[0])) {
+                        parseTableConstraint(element[0], element[1], primaryKeys, relations);
+                    } else if (tokens.get(element[0]).isName()) {
+                        columns.add(parseColumn(element[0], element[1], primaryKeys, relations));
+                    }
+                }
+            }
+        }
+
+        table.setColumns(columns);
+        table.setPrimaryKeys(new ArrayList<>(primaryKeys));
+        table.setRelations(relations);
+        return table;
+    }
+
+    // Definiciones de columnas sin comentarios ni restricciones de tabla
+    public List<String> parseColumnDefinitions() {
+        List<String> definitions = new ArrayList<>();
+        int nameIndex = tableNameIndex();
+        if (nameIndex < 0) {
+            return definitions;
+        }
+
+        int[] next = new int[1];
+        qualifiedName(nameIndex, next);
+        int open = next[0];
+        if (open >= tokens.size() || !tokens.get(open).isSymbol('(')) {
+            return definitions;
+        }
+
+        for (int[] element : splitElements(open + 1, matchingParen(open))) {
+            if (!isTableConstraint(element[0])) {
+                definitions.add(text(element[0], element[1]));
+            }
+        }
+        return definitions;
+    }
+
+    // Interpreta todo el texto como la definición de una única columna
+    public ColumnMetadata parseColumnDefinition() {
+        if (tokens.isEmpty() || !tokens.get(0).isName()) {
+            return null;
+        }
+        return parseColumn(0, tokens.size(), new LinkedHashSet<>(), new ArrayList<>());
+    }
+
+    private ColumnMetadata parseColumn(int from, int to, Set<String> primaryKeys, List<RelationMetadata> relations) {
+        ColumnMetadata column = new ColumnMetadata();
+        String rawName = tokens.get(from).getText();
+        column.setColumnName(sanitizeIdentifier(rawName));
+
+        // Tipo de dato: nombre (posiblemente calificado) con precisión/escala opcional
+        int i = from + 1;
+        if (i < to && tokens.get(i).isName()) {
+            SqlToken typeName = tokens.get(i);
+            int typeStart = typeName.getStart();
+            i++;
+            while (i + 1 < to && tokens.get(i).isSymbol('.') && tokens.get(i + 1).isName()) {
+                i += 2;
+            }
+            // Tipos de dos palabras: DOUBLE PRECISION, CHARACTER VARYING, BIT VARYING
+            if (i < to && isTypeContinuation(typeName, tokens.get(i))) {
+                i++;
+            }
+            if (i < to && tokens.get(i).isSymbol('(')) {
+                i = Math.min(matchingParen(i), to - 1) + 1;
+            }
+            // TIME/TIMESTAMP [(p)] WITH|WITHOUT TIME ZONE
+            if ((typeName.isKeyword("TIME") || typeName.isKeyword("TIMESTAMP")) && i + 2 < to
+                && (tokens.get(i).isKeyword("WITH") || tokens.get(i).isKeyword("WITHOUT"))
+                && tokens.get(i + 1).isKeyword("TIME") && tokens.get(i + 2).isKeyword("ZONE")) {
+                i += 3;
+            }
+            String dataType = sql.substring(typeStart, tokens.get(i - 1).getEnd());
+
+            // Manejar tipos de arrays: INTEGER[], INTEGER[][], VARCHAR(10)[3] o VARCHAR(10) ARRAY[3]
+            // (cada par de corchetes es una dimensión; ARRAY[n] equivale a una)
+            StringBuilder columnType = new StringBuilder(dataType.toUpperCase());
+            while (i < to && (tokens.get(i).isSymbol('[') || tokens.get(i).isKeyword("ARRAY"))) {
+                if (tokens.get(i).isKeyword("ARRAY")) {
+                    i++;
+                    if (i < to && tokens.get(i).isSymbol('[')) {
+                        i = skipBrackets(i, to);
+                    }
+                } else {
+                    i = skipBrackets(i, to);
+                }
+                columnType.append("[]");
+            }
+            column.setColumnType(columnType.toString());
+        }
+
+        // Restricciones de columna
+        while (i < to) {
+            SqlToken token = tokens.get(i);
+            if (token.isSymbol('(')) {
+                i = matchingParen(i) + 1;
+            } else if (token.isKeyword("NOT") && i + 1 < to && tokens.get(i + 1).isKeyword("NULL")) {
+                column.setNotNull(true);
+                i += 2;
+            } else if (token.isKeyword("UNIQUE")) {
+                column.setUnique(true);
+                i++;
+            } else if (token.isKeyword("PRIMARY") && i + 1 < to && tokens.get(i + 1).isKeyword("KEY")) {
+                primaryKeys.add(column.getColumnName().toLowerCase());
+                i += 2;
+            } else if (token.isKeyword("DEFAULT") && i + 1 < to) {
+                i = parseDefaultValue(i + 1, to, column);
+            } else if (token.isKeyword("GENERATED")) {
+                i = parseGenerated(i + 1, to, column);
+            } else if (token.isKeyword("REFERENCES") && i + 1 < to && tokens.get(i + 1).isName()) {
+                int[] next = new int[1];
+                String targetTable = qualifiedName(i + 1, next);
+                i = next[0];
+                if (i < to && tokens.get(i).isSymbol('(')) {
+                    List<String> targetColumns = nameList(i);
+                    if (!targetColumns.isEmpty()) {
+                        relations.add(new RelationMetadata(rawName, targetTable, targetColumns.get(0), true));
+                    }
+                    i = matchingParen(i) + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+
+        return column;
+    }
+
+    private static boolean isTypeContinuation(SqlToken typeName, SqlToken next) {
+        if (next.isKeyword("PRECISION")) {
+            return typeName.isKeyword("DOUBLE");
+        }
+        return next.isKeyword("VARYING")
+            && (typeName.isKeyword("CHARACTER") || typeName.isKeyword("CHAR") || typeName.isKeyword("BIT"));
+    }
+
+    private int parseDefaultValue(int i, int to, ColumnMetadata column) {
+        SqlToken token = tokens.get(i);
+        int end = i + 1;
+
+        if (token.isSymbol('(')) {
+            end = matchingParen(i) + 1;
+        } else if ((token.isSymbol('-') || token.isSymbol('+')) && end < to
+            && tokens.get(end).getType() == SqlToken.Type.NUMBER) {
+            end++;
+        } else if (token.getType() == SqlToken.Type.IDENTIFIER && end < to && tokens.get(end).isSymbol('(')) {
+            // Funciones con o sin argumentos, como NOW(), UUID(), nextval('seq')
+            end = matchingParen(end) + 1;
+        } else if (token.getType() == SqlToken.Type.SYMBOL || token.getType() == SqlToken.Type.QUOTED_IDENTIFIER) {
+            return end;
+        }
+
+        end = Math.min(end, to);
+        column.setDefaultValue(sql.substring(token.getStart(), tokens.get(end - 1).getEnd()));
+        return end;
+    }
+
+    // GENERATED {ALWAYS | BY DEFAULT} AS IDENTITY; las opciones de secuencia entre paréntesis que siguen
+    // se saltan en el ciclo de restricciones. GENERATED ALWAYS AS (expresión) STORED no es identidad
+    private int parseGenerated(int i, int to, ColumnMetadata column) {
+        String identity = null;
+        if (i < to && tokens.get(i).isKeyword("ALWAYS")) {
+            identity = "ALWAYS";
+            i++;
+        } else if (i + 1 < to && tokens.get(i).isKeyword("BY") && tokens.get(i + 1).isKeyword("DEFAULT")) {
+            identity = "BY DEFAULT";
+            i += 2;
+        }
+        if (identity != null && i + 1 < to && tokens.get(i).isKeyword("AS") && tokens.get(i + 1).isKeyword("IDENTITY")) {
+            column.setIdentity(identity);
+            return i + 2;
+        }
+        return i;
+    }
+
+    private void parseTableConstraint(int from, int to, Set<String> primaryKeys, List<RelationMetadata> relations) {
+        int i = from;
+        if (tokens.get(i).isKeyword("CONSTRAINT")) {
+            i += 2;
+        }
+        if (i + 2 >= to) {
+            return;
+        }
+
+        if (tokens.get(i).isKeyword("PRIMARY") && tokens.get(i + 1).isKeyword("KEY") && tokens.get(i + 2).isSymbol('(')) {
+            for (String column : nameList(i + 2)) {
+                primaryKeys.add(sanitizeIdentifier(column).toLowerCase());
+            }
+        } else if (tokens.get(i).isKeyword("FOREIGN") && tokens.get(i + 1).isKeyword("KEY") && tokens.get(i + 2).isSymbol('(')) {
+            int open = i + 2;
+            List<String> sourceColumns = nameList(open);
+            i = matchingParen(open) + 1;
+            if (i + 1 >= to || !tokens.get(i).isKeyword("REFERENCES") || !tokens.get(i + 1).isName()) {
+                return;
+            }
+
+            int[] next = new int[1];
+            String targetTable = qualifiedName(i + 1, next);
+            if (next[0] >= to || !tokens.get(next[0]).isSymbol('(')) {
+                return;
+            }
+            List<String> targetColumns = nameList(next[0]);
+
+            // Manejar FKs compuestas
+            for (int c = 0; c < sourceColumns.size() && c < targetColumns.size(); c++) {
+                relations.add(new RelationMetadata(sourceColumns.get(c), targetTable, targetColumns.get(c), true));
+            }
+        }
+    }
+
+    private boolean isTableConstraint(int index) {
+        SqlToken token = tokens.get(index);
+        return token.isKeyword("CONSTRAINT") || token.isKeyword("PRIMARY") || token.isKeyword("FOREIGN")
+            || token.isKeyword("UNIQUE") || token.isKeyword("CHECK") || token.isKeyword("EXCLUDE");
+    }
+
+    // Primer identificador de cada elemento de una lista entre paréntesis: (a, "b", c[1])
+    private List<String> nameList(int open) {
+        List<String> names = new ArrayList<>();
+        int close = matchingParen(open);
+        for (int[] element : splitElements(open + 1, close)) {
+            for (int i = element[0]; i < element[1]; i++) {
+                if (tokens.get(i).isName()) {
+                    names.add(tokens.get(i).getText());
+                    break;
+                }
+            }
+        }
+        return names;
+    }
+
+    private int skipBrackets(int open, int to) {
+        int i = open;
+        while (i < to && !tokens.get(i).isSymbol(']')) {
+            i++;
+        }
+        return i + 1;
+    }
+
+    private int tableNameIndex() {
+        for (int i = 0; i < tokens.size(); i++) {
+            int tableIndex = tableKeywordIndex(tokens, i, tokens.size());
+            if (tableIndex >= 0) {
+                int nameIndex = tableIndex + 1;
+                // CREATE TABLE IF NOT EXISTS nombre
+                if (nameIndex + 2 < tokens.size() && tokens.get(nameIndex).isKeyword("IF")
+                    && tokens.get(nameIndex + 1).isKeyword("NOT") && tokens.get(nameIndex + 2).isKeyword("EXISTS")) {
+                    nameIndex += 3;
+                }
+                return nameIndex < tokens.size() && tokens.get(nameIndex).isName() ? nameIndex : -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int tableKeywordIndex(List<SqlToken> tokens, int index, int end) {
+        if (index >= end || !tokens.get(index).isKeyword("CREATE")) {
+            return -1;
+        }
+        int i = index + 1;
+        if (i < end && (tokens.get(i).isKeyword("GLOBAL") || tokens.get(i).isKeyword("LOCAL"))) {
+            i++;
+        }
+        if (i < end && (tokens.get(i).isKeyword("TEMP") || tokens.get(i).isKeyword("TEMPORARY")
+            || tokens.get(i).isKeyword("UNLOGGED"))) {
+            i++;
+        }
+        return i < end && tokens.get(i).isKeyword("TABLE") ? i : -1;
+    }
+
+    // Reemplaza caracteres no válidos por '_', consolida los consecutivos y elimina los de los extremos
+    public static String sanitizeIdentifier(String name) {
+        StringBuilder clean = new StringBuilder(name.length());
+        boolean pendingUnderscore = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+            if (valid) {
+                if (pendingUnderscore && clean.length() > 0) {
+                    clean.append('_');
+                }
+                pendingUnderscore = false;
+                clean.append(c);
+            } else {
+                pendingUnderscore = true;
+            }
+        }
+        return clean.toString();
+    }
+}
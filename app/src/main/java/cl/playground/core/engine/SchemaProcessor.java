@@ -1,93 +1,95 @@
 package cl.playground.core.engine;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
+import cl.playground.core.cache.GenerationCache;
+import cl.playground.core.metrics.Phase;
+import cl.playground.core.metrics.PhaseMetrics;
 import cl.playground.core.model.ColumnMetadata;
+import cl.playground.core.model.IndexMetadata;
 import cl.playground.core.model.RelationMetadata;
+import cl.playground.core.model.SchemaModel;
 import cl.playground.core.model.TableMetadata;
+import cl.playground.core.types.ColumnType;
 
 public class SchemaProcessor {
     private final PostgresEngine engine;
-    private Map<String, List<RelationMetadata>> inverseRelationsMap;
+    private final int threads;
+    private final GenerationCache cache;
+    private final PhaseMetrics metrics;
 
     public SchemaProcessor(PostgresEngine engine) {
+        this(engine, 1);
+    }
+
+    // Con threads > 1 cada sentencia se procesa en paralelo; el resultado es idéntico al secuencial
+    public SchemaProcessor(PostgresEngine engine, int threads) {
+        this(engine, threads, null);
+    }
+
+    // Con caché, las sentencias que no cambiaron desde la ejecución anterior no se vuelven a parsear
+    public SchemaProcessor(PostgresEngine engine, int threads, GenerationCache cache) {
+        this(engine, threads, cache, PhaseMetrics.NONE);
+    }
+
+    public SchemaProcessor(PostgresEngine engine, int threads, GenerationCache cache, PhaseMetrics metrics) {
         this.engine = engine;
-        this.inverseRelationsMap = new HashMap<>();
+        this.threads = Math.max(1, threads);
+        this.cache = cache;
+        this.metrics = metrics;
     }
 
     public List<TableMetadata> processSchema(String schema) {
-        List<TableMetadata> tables = new ArrayList<>();
-        List<String> statements = engine.extractCreateTableStatements(schema);
+        return buildSchemaModel(schema).getTables();
+    }
 
+    public List<TableMetadata> processStatements(Iterable<String> statements) {
+        return buildSchemaModel(statements).getTables();
+    }
+
+    public SchemaModel buildSchemaModel(String schema) {
+        PhaseMetrics.Sample sample = metrics.start();
+        List<String> statements = engine.extractSchemaStatements(schema);
+        metrics.stop(Phase.STATEMENTS, sample, statements.size());
+        return buildModel(statements);
+    }
+
+    // Procesa sentencias CREATE TABLE y CREATE INDEX ya separadas (por ejemplo, leídas en streaming desde el archivo)
+    public SchemaModel buildSchemaModel(Iterable<String> statements) {
+        return buildModel(metrics.isEnabled() ? timed(statements) : statements);
+    }
+
+    private SchemaModel buildModel(Iterable<String> statements) {
         // Primera pasada: procesar estructura básica y relaciones directas
-        statements.forEach(statement -> {
-            TableMetadata table = new TableMetadata();
-            String tableName = engine.extractTableName(statement).toLowerCase(); // Normalizar nombres
-            table.setTableName(tableName);
-
-            // Procesar columnas
-            List<ColumnMetadata> columns = new ArrayList<>();
-            engine.extractColumnDefinitions(statement).forEach(columnDef -> {
-                ColumnMetadata column = new ColumnMetadata();
-                column.setColumnName(engine.extractColumnName(columnDef).toLowerCase());
-                column.setColumnType(engine.extractColumnType(columnDef));
-                column.setNotNull(engine.isNotNullColumn(columnDef));
-                column.setUnique(engine.isUniqueColumn(columnDef));
-                column.setDefaultValue(engine.extractDefaultValue(columnDef));
-                columns.add(column);
-            });
-            table.setColumns(columns);
-
-            // Procesar claves primarias
-            List<String> primaryKeys = engine.extractPrimaryKeyColumns(statement).stream()
-                .map(String::toLowerCase) // Normalizar claves primarias
-                .toList();
-
-            // Validar claves primarias con las columnas
-            primaryKeys.forEach(pk -> {
-                boolean exists = columns.stream()
-                    .anyMatch(column -> column.getColumnName().equals(pk));
-                if (!exists) {
-                    throw new IllegalArgumentException(
-                        String.format("La clave primaria '%s' no coincide con ninguna columna en la tabla '%s'. Columnas disponibles: %s",
-                            pk, tableName,
-                            columns.stream()
-                                .map(ColumnMetadata::getColumnName)
-                                .collect(Collectors.joining(", "))));
-                }
-            });
-            table.setPrimaryKeys(primaryKeys);
-
-            // Procesar relaciones directas
-            List<RelationMetadata> relations = new ArrayList<>();
-            engine.extractTableRelations(statement).forEach(relation -> {
-                String sourceColumn = relation.getSourceColumn().toLowerCase();
-                String targetTable = relation.getTargetTable().toLowerCase();
-                String targetColumn = relation.getTargetColumn().toLowerCase();
-
-                // Agregar relación directa
-                relations.add(new RelationMetadata(
-                    sourceColumn,
-                    targetTable,
-                    targetColumn,
-                    relation.isManyToOne()));
-
-                // Registrar relación inversa (One-to-Many)
-                inverseRelationsMap
-                    .computeIfAbsent(targetTable, k -> new ArrayList<>())
-                    .add(new RelationMetadata(
-                        targetColumn,
-                        tableName,
-                        sourceColumn,
-                        !relation.isManyToOne())); // Relación inversa cambia el tipo
-            });
-            table.setRelations(relations);
-            tables.add(table);
-        });
+        List<IndexMetadata> indexes = new ArrayList<>();
+        List<TableMetadata> tables = threads > 1
+            ? parseTablesInParallel(statements, indexes)
+            : parseTables(statements, indexes);
+
+        PhaseMetrics.Sample relationsSample = metrics.start();
+        attachIndexes(tables, indexes);
+
+        // Registrar relaciones inversas (One-to-Many) en el orden de las sentencias
+        Map<String, List<RelationMetadata>> inverseRelationsMap = new HashMap<>();
+        tables.forEach(table -> table.getRelations().forEach(relation ->
+            inverseRelationsMap
+                .computeIfAbsent(relation.getTargetTable(), k -> new ArrayList<>())
+                .add(new RelationMetadata(
+                    relation.getTargetColumn(),
+                    table.getTableName(),
+                    relation.getSourceColumn(),
+                    !relation.isManyToOne())))); // Relación inversa cambia el tipo
 
         // Segunda pasada: agregar relaciones inversas
         tables.forEach(table -> {
@@ -98,22 +100,215 @@ public class SchemaProcessor {
             }
         });
 
-        // Validar relaciones de claves foráneas
-        validateForeignKeys(tables);
+        metrics.stop(Phase.RELATIONS, relationsSample, tables.size());
 
+        // Validar relaciones de claves foráneas contra el índice de tablas
+        PhaseMetrics.Sample validationSample = metrics.start();
+        SchemaModel model = new SchemaModel(tables);
+        validateForeignKeys(model);
+        metrics.stop(Phase.VALIDATION, validationSample, tables.size());
+
+        return model;
+    }
+
+    // Los CREATE INDEX se parsean en el hilo que recorre las sentencias y se acumulan en indexes
+    private List<TableMetadata> parseTables(Iterable<String> statements, List<IndexMetadata> indexes) {
+        List<TableMetadata> tables = new ArrayList<>();
+        statements.forEach(statement -> {
+            if (!collectIndex(statement, indexes)) {
+                tables.add(parseCachedTable(statement));
+            }
+        });
         return tables;
     }
 
-    private void validateForeignKeys(List<TableMetadata> tables) {
-        // Obtener los nombres de las tablas existentes
-        List<String> existingTables = tables.stream()
-            .map(TableMetadata::getTableName)
-            .collect(Collectors.toList());
+    private List<TableMetadata> parseTablesInParallel(Iterable<String> statements, List<IndexMetadata> indexes) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            // Los futuros conservan el orden de las sentencias
+            List<Future<TableMetadata>> futures = new ArrayList<>();
+            statements.forEach(statement -> {
+                if (!collectIndex(statement, indexes)) {
+                    futures.add(executor.submit(() -> parseCachedTable(statement)));
+                }
+            });
 
+            List<TableMetadata> tables = new ArrayList<>(futures.size());
+            for (Future<TableMetadata> future : futures) {
+                tables.add(future.get());
+            }
+            return tables;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Error processing schema", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Schema processing interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // false si la sentencia no es un CREATE INDEX. Son pocas y baratas de parsear: no pasan por el caché
+    private boolean collectIndex(String statement, List<IndexMetadata> indexes) {
+        if (!engine.isCreateIndex(statement)) {
+            return false;
+        }
+        PhaseMetrics.Sample sample = metrics.start();
+        IndexMetadata index = engine.parseCreateIndex(statement);
+        if (index != null) {
+            indexes.add(index);
+        }
+        metrics.stop(Phase.PARSE, sample);
+        return true;
+    }
+
+    // Asocia cada índice a su tabla con los nombres normalizados como en parseTable. Los índices sobre
+    // tablas que no están en el esquema (vistas materializadas, otro archivo) o sobre columnas que no se
+    // parsearon (agregadas con ALTER TABLE) se ignoran
+    private void attachIndexes(List<TableMetadata> tables, List<IndexMetadata> indexes) {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        Map<String, TableMetadata> tablesByName = new HashMap<>();
+        tables.forEach(table -> tablesByName.put(table.getTableName(), table));
+
+        for (IndexMetadata index : indexes) {
+            TableMetadata table = tablesByName.get(index.getTableName().toLowerCase());
+            if (table == null) {
+                continue;
+            }
+            if (!index.hasExpressions()) {
+                List<String> columns = resolveIndexColumns(index, table);
+                if (columns == null) {
+                    continue;
+                }
+                index.setColumns(columns);
+            }
+            index.setTableName(table.getTableName());
+            index.setIndexName(index.getIndexName().toLowerCase());
+            table.getIndexes().add(index);
+        }
+    }
+
+    // Columnas del índice normalizadas, o null si alguna no existe en la tabla
+    private List<String> resolveIndexColumns(IndexMetadata index, TableMetadata table) {
+        Set<String> columnNames = new HashSet<>();
+        table.getColumns().forEach(column -> columnNames.add(column.getColumnName()));
+        List<String> columns = new ArrayList<>();
+        for (String column : index.getColumns()) {
+            String normalized = column.toLowerCase();
+            String name = normalized.endsWith(" desc") ? normalized.substring(0, normalized.length() - 5) : normalized;
+            if (!columnNames.contains(name)) {
+                return null;
+            }
+            columns.add(normalized.endsWith(" desc") ? name + " DESC" : name);
+        }
+        return columns;
+    }
+
+    // Cada tabla se mide en el hilo que la procesa
+    private TableMetadata parseCachedTable(String statement) {
+        PhaseMetrics.Sample sample = metrics.start();
+        TableMetadata table = parseOrReuseTable(statement);
+        metrics.stop(Phase.PARSE, sample);
+        return table;
+    }
+
+    private TableMetadata parseOrReuseTable(String statement) {
+        if (cache == null) {
+            return parseTable(statement);
+        }
+        TableMetadata table = cache.getTable(statement);
+        if (table == null) {
+            table = parseTable(statement);
+            cache.putTable(statement, table);
+        } else {
+            resolveColumnTypes(table);
+        }
+        return table;
+    }
+
+    // Tipo resuelto una sola vez por columna; los generadores lo leen de ColumnMetadata
+    private void resolveColumnTypes(TableMetadata table) {
+        table.getColumns().forEach(column -> column.setResolvedType(ColumnType.resolve(column.getColumnType())));
+    }
+
+    // Procesa una sentencia de forma independiente: no toca estado compartido
+    private TableMetadata parseTable(String statement) {
+        // Una sola pasada del parser por sentencia
+        TableMetadata table = engine.parseCreateTable(statement);
+        String tableName = table.getTableName().toLowerCase(); // Normalizar nombres
+        table.setTableName(tableName);
+
+        // Procesar columnas
+        List<ColumnMetadata> columns = table.getColumns();
+        columns.forEach(column -> column.setColumnName(column.getColumnName().toLowerCase()));
+        resolveColumnTypes(table);
+
+        // Procesar claves primarias
+        List<String> primaryKeys = table.getPrimaryKeys().stream()
+            .map(String::toLowerCase) // Normalizar claves primarias
+            .toList();
+
+        // Validar claves primarias con las columnas
+        Set<String> columnNames = new HashSet<>();
+        columns.forEach(column -> columnNames.add(column.getColumnName()));
+        primaryKeys.forEach(pk -> {
+            if (!columnNames.contains(pk)) {
+                throw new IllegalArgumentException(
+                    String.format("La clave primaria '%s' no coincide con ninguna columna en la tabla '%s'. Columnas disponibles: %s",
+                        pk, tableName,
+                        columns.stream()
+                            .map(ColumnMetadata::getColumnName)
+                            .collect(Collectors.joining(", "))));
+            }
+        });
+        table.setPrimaryKeys(primaryKeys);
+
+        // Procesar relaciones directas
+        List<RelationMetadata> relations = new ArrayList<>();
+        table.getRelations().forEach(relation -> relations.add(new RelationMetadata(
+            relation.getSourceColumn().toLowerCase(),
+            relation.getTargetTable().toLowerCase(),
+            relation.getTargetColumn().toLowerCase(),
+            relation.isManyToOne())));
+        table.setRelations(relations);
+
+        return table;
+    }
+
+    // En streaming la lectura del archivo y la extracción de sentencias ocurren dentro del iterador
+    private Iterable<String> timed(Iterable<String> statements) {
+        return () -> {
+            Iterator<String> iterator = statements.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    PhaseMetrics.Sample sample = metrics.start();
+                    boolean hasNext = iterator.hasNext();
+                    metrics.stop(Phase.STATEMENTS, sample, 0);
+                    return hasNext;
+                }
+
+                @Override
+                public String next() {
+                    PhaseMetrics.Sample sample = metrics.start();
+                    String statement = iterator.next();
+                    metrics.stop(Phase.STATEMENTS, sample, 1);
+                    return statement;
+                }
+            };
+        };
+    }
+
+    private void validateForeignKeys(SchemaModel model) {
         // Validar cada relación
-        tables.forEach(table -> {
+        model.getTables().forEach(table -> {
             table.getRelations().forEach(relation -> {
-                if (!existingTables.contains(relation.getTargetTable())) {
+                if (!model.containsTable(relation.getTargetTable())) {
                     throw new IllegalArgumentException(String.format(
                         "La tabla referenciada '%s' no existe. Referenciada desde: tabla '%s', columna '%s'.",
                         relation.getTargetTable(), table.getTableName(), relation.getSourceColumn()
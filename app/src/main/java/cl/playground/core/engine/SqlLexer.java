@@ -0,0 +1,180 @@
+package cl.playground.core.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SqlLexer {
+
+    private final String sql;
+    private final int length;
+    private int pos;
+
+    public SqlLexer(String sql) {
+        this.sql = sql;
+        this.length = sql.length();
+        this.pos = 0;
+    }
+
+    public static List<SqlToken> tokenize(String sql) {
+        SqlLexer lexer = new SqlLexer(sql);
+        List<SqlToken> tokens = new ArrayList<>();
+        SqlToken token;
+        while ((token = lexer.next()) != null) {
+            tokens.add(token);
+        }
+        return tokens;
+    }
+
+    // Retorna el siguiente token o null al llegar al final. Los comentarios se descartan.
+    public SqlToken next() {
+        skipWhitespaceAndComments();
+        if (pos >= length) {
+            return null;
+        }
+
+        int start = pos;
+        char c = sql.charAt(pos);
+
+        // Cadenas con escapes estilo C: E'...'
+        if ((c == 'E' || c == 'e') && pos + 1 < length && sql.charAt(pos + 1) == '\'') {
+            pos++;
+            readQuoted('\'', true);
+            return new SqlToken(SqlToken.Type.STRING, sql.substring(start, pos), start, pos);
+        }
+
+        if (isIdentifierStart(c)) {
+            pos++;
+            while (pos < length && isIdentifierPart(sql.charAt(pos))) {
+                pos++;
+            }
+            return new SqlToken(SqlToken.Type.IDENTIFIER, sql.substring(start, pos), start, pos);
+        }
+
+        if (c == '"') {
+            String name = readQuoted('"', false);
+            return new SqlToken(SqlToken.Type.QUOTED_IDENTIFIER, name, start, pos);
+        }
+
+        if (c == '\'') {
+            readQuoted('\'', false);
+            return new SqlToken(SqlToken.Type.STRING, sql.substring(start, pos), start, pos);
+        }
+
+        if (Character.isDigit(c) || (c == '.' && pos + 1 < length && Character.isDigit(sql.charAt(pos + 1)))) {
+            readNumber();
+            return new SqlToken(SqlToken.Type.NUMBER, sql.substring(start, pos), start, pos);
+        }
+
+        if (c == '$') {
+            int tagEnd = dollarTagEnd(pos);
+            if (tagEnd > 0) {
+                String tag = sql.substring(pos, tagEnd);
+                int close = sql.indexOf(tag, tagEnd);
+                pos = close < 0 ? length : close + tag.length();
+                return new SqlToken(SqlToken.Type.DOLLAR_STRING, sql.substring(start, pos), start, pos);
+            }
+        }
+
+        // Cualquier otro carácter se trata como puntuación de un solo carácter
+        pos++;
+        return new SqlToken(SqlToken.Type.SYMBOL, String.valueOf(c), start, pos);
+    }
+
+    private void skipWhitespaceAndComments() {
+        while (pos < length) {
+            char c = sql.charAt(pos);
+            if (Character.isWhitespace(c)) {
+                pos++;
+            } else if (c == '-' && pos + 1 < length && sql.charAt(pos + 1) == '-') {
+                int newline = sql.indexOf('\n', pos);
+                pos = newline < 0 ? length : newline + 1;
+            } else if (c == '/' && pos + 1 < length && sql.charAt(pos + 1) == '*') {
+                skipBlockComment();
+            } else {
+                return;
+            }
+        }
+    }
+
+    // PostgreSQL permite comentarios de bloque anidados
+    private void skipBlockComment() {
+        int depth = 0;
+        while (pos < length) {
+            if (sql.startsWith("/*", pos)) {
+                depth++;
+                pos += 2;
+            } else if (sql.startsWith("*/", pos)) {
+                depth--;
+                pos += 2;
+                if (depth == 0) {
+                    return;
+                }
+            } else {
+                pos++;
+            }
+        }
+    }
+
+    // Consume un literal delimitado por quote (duplicar la comilla la escapa) y retorna su contenido
+    private String readQuoted(char quote, boolean backslashEscapes) {
+        StringBuilder content = new StringBuilder();
+        pos++;
+        while (pos < length) {
+            char c = sql.charAt(pos);
+            if (backslashEscapes && c == '\\' && pos + 1 < length) {
+                content.append(c).append(sql.charAt(pos + 1));
+                pos += 2;
+            } else if (c == quote) {
+                if (pos + 1 < length && sql.charAt(pos + 1) == quote) {
+                    content.append(quote);
+                    pos += 2;
+                } else {
+                    pos++;
+                    return content.toString();
+                }
+            } else {
+                content.append(c);
+                pos++;
+            }
+        }
+        return content.toString();
+    }
+
+    private void readNumber() {
+        while (pos < length && (Character.isDigit(sql.charAt(pos)) || sql.charAt(pos) == '.')) {
+            pos++;
+        }
+        if (pos < length && (sql.charAt(pos) == 'e' || sql.charAt(pos) == 'E')) {
+            int exponent = pos + 1;
+            if (exponent < length && (sql.charAt(exponent) == '+' || sql.charAt(exponent) == '-')) {
+                exponent++;
+            }
+            if (exponent < length && Character.isDigit(sql.charAt(exponent))) {
+                pos = exponent;
+                while (pos < length && Character.isDigit(sql.charAt(pos))) {
+                    pos++;
+                }
+            }
+        }
+    }
+
+    // Si en 'from' comienza un delimitador $tag$ retorna la posición siguiente a él, si no -1
+    private int dollarTagEnd(int from) {
+        int i = from + 1;
+        if (i < length && isIdentifierStart(sql.charAt(i))) {
+            i++;
+            while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '_')) {
+                i++;
+            }
+        }
+        return i < length && sql.charAt(i) == '$' ? i + 1 : -1;
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return Character.isLetter(c) || c == '_';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+}
@@ -0,0 +1,64 @@
+package cl.playground.core.engine;
+
+public class SqlToken {
+
+    public enum Type {
+        IDENTIFIER,
+        QUOTED_IDENTIFIER,
+        STRING,
+        DOLLAR_STRING,
+        NUMBER,
+        SYMBOL
+    }
+
+    private final Type type;
+    private final String text;
+    private final int start;
+    private final int end;
+
+    public SqlToken(Type type, String text, int start, int end) {
+        this.type = type;
+        this.text = text;
+        this.start = start;
+        this.end = end;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    // Texto del token: para identificadores entre comillas es el contenido sin comillas
+    public String getText() {
+        return text;
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    public int getEnd() {
+        return end;
+    }
+
+    public boolean isKeyword(String keyword) {
+        return type == Type.IDENTIFIER && text.equalsIgnoreCase(keyword);
+    }
+
+    public boolean isSymbol(char symbol) {
+        return type == Type.SYMBOL && text.length() == 1 && text.charAt(0) == symbol;
+    }
+
+    public boolean isName() {
+        return type == Type.IDENTIFIER || type == Type.QUOTED_IDENTIFIER;
+    }
+
+    @Override
+    public String toString() {
+        return "SqlToken{" +
+                "type=" + type +
+                ", text='" + text + '\'' +
+                ", start=" + start +
+                ", end=" + end +
+                '}';
+    }
+}
@@ -0,0 +1,81 @@
+package cl.playground.core.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Base de los parsers de sentencias: la sentencia tokenizada una sola vez y los recorridos comunes
+abstract class SqlTokenParser {
+
+    protected final String sql;
+    protected final List<SqlToken> tokens;
+
+    protected SqlTokenParser(String sql) {
+        this.sql = sql;
+        this.tokens = SqlLexer.tokenize(sql);
+    }
+
+
+    // Divide el rango por las comas de primer nivel; cada elemento es {desde, hasta}
+    protected List<int[]> splitElements(int from, int to) {
+        List<int[]> elements = new ArrayList<>();
+        int start = from;
+        int depth = 0;
+        for (int i = from; i < to; i++) {
+            SqlToken token = tokens.get(i);
+            if (token.isSymbol('(') || token.isSymbol('[')) {
+                depth++;
+            } else if (token.isSymbol(')') || token.isSymbol(']')) {
+                depth--;
+            } else if (token.isSymbol(',') && depth == 0) {
+                if (i > start) {
+                    elements.add(new int[]{start, i});
+                }
+                start = i + 1;
+            }
+        }
+        if (to > start) {
+            elements.add(new int[]{start, to});
+        }
+        return elements;
+    }
+
+    protected int matchingParen(int open) {
+        int depth = 0;
+        for (int i = open; i < tokens.size(); i++) {
+            if (tokens.get(i).isSymbol('(')) {
+                depth++;
+            } else if (tokens.get(i).isSymbol(')')) {
+                depth--;
+                if (depth == 0) {
+                    return i;
+                }
+            }
+        }
+        return tokens.size();
+    }
+
+    // Nombre calificado (schema.tabla); next[0] queda en el token siguiente
+    protected String qualifiedName(int index, int[] next) {
+        StringBuilder name = new StringBuilder(tokens.get(index).getText());
+        int i = index + 1;
+        while (i + 1 < tokens.size() && tokens.get(i).isSymbol('.') && tokens.get(i + 1).isName()) {
+            name.append('.').append(tokens.get(i + 1).getText());
+            i += 2;
+        }
+        next[0] = i;
+        return name.toString();
+    }
+
+    // Texto original de los tokens, reemplazando espacios y comentarios intermedios por un espacio
+    protected String text(int from, int to) {
+        StringBuilder text = new StringBuilder();
+        for (int i = from; i < to; i++) {
+            SqlToken token = tokens.get(i);
+            if (i > from && token.getStart() > tokens.get(i - 1).getEnd()) {
+                text.append(' ');
+            }
+            text.append(sql, token.getStart(), token.getEnd());
+        }
+        return text.toString();
+    }
+}
@@ -1,11 +1,20 @@
 package cl.playground.core.generator;
 
 import cl.playground.core.generator.factory.*;
+import cl.playground.core.generator.mapping.GeneratorOptions;
+import cl.playground.core.generator.naming.NamingService;
+import cl.playground.core.model.TableIndex;
 import cl.playground.core.model.TableMetadata;
+import cl.playground.core.writer.SourceWriter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+// Sin estado mutable: una misma instancia puede generar entidades desde varios hilos
 public class EntityGenerator {
 
-    private final boolean useLombok;
+    private final GeneratorOptions options;
+    private final NamingService naming;
     private final ImportGenerator importGenerator;
     private final ClassAnnotationGenerator classAnnotationGenerator;
     private final ClassCoreGenerator classCoreGenerator;
@@ -14,49 +23,80 @@ public class EntityGenerator {
     private final CompositeClassGenerator compositeClassGenerator;
 
     public EntityGenerator(boolean useLombok) {
-        this.useLombok = useLombok;
-        this.importGenerator = new ImportGenerator(useLombok);
-        this.classAnnotationGenerator = new ClassAnnotationGenerator(useLombok);
-        this.classConstructorsGenerator = new ClassConstructorsGenerator(useLombok);
-        this.classGetterAndSetterGenerator = new ClassGetterAndSetterGenerator(useLombok);
-        this.compositeClassGenerator = new CompositeClassGenerator(useLombok);
-        this.classCoreGenerator = new ClassCoreGenerator();
+        this(GeneratorOptions.defaults().withLombok(useLombok));
+    }
+
+    public EntityGenerator(GeneratorOptions options) {
+        this.options = options;
+        this.naming = options.getNaming();
+        this.importGenerator = new ImportGenerator(options);
+        this.classAnnotationGenerator = new ClassAnnotationGenerator(options);
+        this.classConstructorsGenerator = new ClassConstructorsGenerator(options);
+        this.classGetterAndSetterGenerator = new ClassGetterAndSetterGenerator(options);
+        this.compositeClassGenerator = new CompositeClassGenerator(options);
+        this.classCoreGenerator = new ClassCoreGenerator(options);
+    }
+
+    public NamingService getNaming() {
+        return naming;
+    }
+
+    // Opciones que influyen en el código generado; forma parte de la huella del caché de entidades
+    public String getCacheKey() {
+        return options.getCacheKey();
     }
 
     public String generateEntity(TableMetadata table, String packageName) {
-        StringBuilder entityBuilder = new StringBuilder();
+        return generateEntity(table, new TableIndex(table), packageName);
+    }
+
+    // El índice viene del SchemaModel para no reconstruirlo por cada entidad
+    public String generateEntity(TableMetadata table, TableIndex index, String packageName) {
+        StringBuilder entity = new StringBuilder();
+        emit(table, index, packageName, new SourceWriter(entity));
+        return entity.toString();
+    }
 
+    // Emite la entidad directamente en out (por ejemplo un Writer con buffer hacia el archivo),
+    // sin materializar el código completo en memoria
+    public void generateEntity(TableMetadata table, TableIndex index, String packageName, Appendable out) throws IOException {
+        try {
+            emit(table, index, packageName, new SourceWriter(out));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void emit(TableMetadata table, TableIndex index, String packageName, SourceWriter entityBuilder) {
         // 0. Agregar declaración del paquete
         entityBuilder.append("package ").append(packageName).append(";\n\n");
 
         // 1. Generar imports
-        importGenerator.generateImports(table, entityBuilder);
+        importGenerator.generateImports(table, index, entityBuilder);
 
         // 2. Generar anotaciones de clase
         //generateClassAnnotations(table, entityBuilder);
-        classAnnotationGenerator.generateClassAnnotations(table, entityBuilder);
+        classAnnotationGenerator.generateClassAnnotations(table, index, entityBuilder);
 
         // 3. Generar declaración de clase
-        String className = UtilsFactory.generateClassName(table.getTableName());
-        classCoreGenerator.generateClassDeclaration(className, table, entityBuilder);
+        String className = naming.className(table.getTableName());
+        classCoreGenerator.generateClassDeclaration(className, table, index, entityBuilder);
 
         // 4. Generar campos con sus anotaciones
-        classCoreGenerator.generateFields(table, entityBuilder);
+        classCoreGenerator.generateFields(table, index, entityBuilder);
 
         // 5. Generar constructores
-        classConstructorsGenerator.generateConstructors(table, className, entityBuilder);
+        classConstructorsGenerator.generateConstructors(table, index, className, entityBuilder);
 
         // 6. Generar getters y setters
-        classGetterAndSetterGenerator.generateGettersAndSetters(table, entityBuilder);
+        classGetterAndSetterGenerator.generateGettersAndSetters(table, index, entityBuilder);
 
         // 7. Si tiene clave primaria compuesta, generar clase estática al final
         if (UtilsFactory.needsCompositeKey(table)) {
-            compositeClassGenerator.generateCompositeKeyClass(table, entityBuilder);
+            compositeClassGenerator.generateCompositeKeyClass(table, index, entityBuilder);
         }
 
         // Cerrar la clase
         entityBuilder.append("}");
-
-        return entityBuilder.toString();
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,233 @@
+package cl.playground.core.generator;
+
+import cl.playground.core.cache.GenerationCache;
+import cl.playground.core.metrics.Phase;
+import cl.playground.core.metrics.PhaseMetrics;
+import cl.playground.core.model.SchemaModel;
+import cl.playground.core.model.TableIndex;
+import cl.playground.core.model.TableMetadata;
+import cl.playground.core.writer.EntityWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Genera las entidades en un pool de hilos. Si el destino admite escrituras concurrentes, cada hilo
+// emite su entidad en streaming hacia él; si no, las entrega a una única etapa de escritura a través
+// de una cola acotada, de modo que generación y escritura se solapan.
+public class EntityPipeline {
+
+    private static final int QUEUE_CAPACITY_PER_THREAD = 4;
+
+    private final EntityGenerator generator;
+    private final int threads;
+    private final GenerationCache cache;
+    private final PhaseMetrics metrics;
+
+    public EntityPipeline(EntityGenerator generator, int threads) {
+        this(generator, threads, null);
+    }
+
+    // Con caché, las entidades cuya tabla final y configuración no cambiaron se reutilizan sin regenerarse
+    public EntityPipeline(EntityGenerator generator, int threads, GenerationCache cache) {
+        this(generator, threads, cache, PhaseMetrics.NONE);
+    }
+
+    public EntityPipeline(EntityGenerator generator, int threads, GenerationCache cache, PhaseMetrics metrics) {
+        this.generator = generator;
+        this.threads = Math.max(1, threads);
+        this.cache = cache;
+        this.metrics = metrics;
+    }
+
+    public Result run(List<TableMetadata> tables, String packageName, EntityWriter writer) throws IOException {
+        return run(new SchemaModel(tables), packageName, writer);
+    }
+
+    public Result run(SchemaModel model, String packageName, EntityWriter writer) throws IOException {
+        List<TableMetadata> tables = model.getTables();
+        long startTime = System.nanoTime();
+        AtomicLong generationNanos = new AtomicLong();
+        BlockingQueue<GeneratedEntity> queue = new ArrayBlockingQueue<>(threads * QUEUE_CAPACITY_PER_THREAD);
+
+        // Con un destino concurrente (archivos) la escritura ocurre en los hilos de generación y
+        // el tiempo de generación la incluye; si no, una única etapa escribe el contenido ya generado
+        boolean streaming = writer.isConcurrent();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (TableMetadata table : tables) {
+                executor.execute(() -> {
+                    GeneratedEntity entity;
+                    try {
+                        long start = System.nanoTime();
+                        String className = generator.getNaming().className(table.getTableName());
+                        if (streaming) {
+                            // Cada hilo emite su entidad directamente en el destino con un buffer fijo;
+                            // en las métricas, la generación se descuenta del tiempo de escritura
+                            PhaseMetrics.Sample writeSample = metrics.start();
+                            PhaseMetrics.Sample generateSample = metrics.start();
+                            writer.write(className, out -> {
+                                generateSample.restart();
+                                generate(model, table, packageName, out);
+                                metrics.stop(Phase.GENERATE, generateSample);
+                            });
+                            metrics.stop(Phase.WRITE, writeSample, 1, generateSample);
+                            entity = new GeneratedEntity(className, null, null);
+                        } else {
+                            PhaseMetrics.Sample generateSample = metrics.start();
+                            StringBuilder content = new StringBuilder();
+                            generate(model, table, packageName, content);
+                            entity = new GeneratedEntity(className, content.toString(), null);
+                            metrics.stop(Phase.GENERATE, generateSample);
+                        }
+                        generationNanos.addAndGet(System.nanoTime() - start);
+                    } catch (IOException e) {
+                        entity = new GeneratedEntity(null, null, new UncheckedIOException(e));
+                    } catch (RuntimeException | Error e) {
+                        entity = new GeneratedEntity(null, null, e);
+                    }
+                    try {
+                        queue.put(entity);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            // Etapa de escritura: consume exactamente una entidad por tabla
+            long writeNanos = 0;
+            for (int i = 0; i < tables.size(); i++) {
+                GeneratedEntity entity = queue.take();
+                if (entity.error instanceof UncheckedIOException ioException) {
+                    throw ioException.getCause();
+                } else if (entity.error instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                } else if (entity.error instanceof Error error) {
+                    throw error;
+                }
+                if (entity.content != null) {
+                    PhaseMetrics.Sample writeSample = metrics.start();
+                    long start = System.nanoTime();
+                    writer.write(entity.className, entity.content);
+                    writeNanos += System.nanoTime() - start;
+                    metrics.stop(Phase.WRITE, writeSample);
+                }
+            }
+
+            PhaseMetrics.Sample finishSample = metrics.start();
+            long finishStart = System.nanoTime();
+            writer.finish();
+            writeNanos += System.nanoTime() - finishStart;
+            metrics.stop(Phase.FINISH, finishSample);
+
+            return new Result(tables.size(), threads, generationNanos.get(), writeNanos, System.nanoTime() - startTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Entity generation interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void generate(SchemaModel model, TableMetadata table, String packageName, Appendable out) throws IOException {
+        TableIndex index = model.getIndex(table);
+        if (cache == null) {
+            generator.generateEntity(table, index, packageName, out);
+            return;
+        }
+        if (cache.copyEntity(table, packageName, out)) {
+            return;
+        }
+        // Se emite a la vez en el destino y en el caché; la entrada solo se confirma si la generación termina
+        try (GenerationCache.EntityOutput cached = cache.openEntity(table, packageName)) {
+            generator.generateEntity(table, index, packageName, new TeeAppendable(out, cached.getWriter()));
+            cached.commit();
+        }
+    }
+
+    private static class TeeAppendable implements Appendable {
+        private final Appendable first;
+        private final Appendable second;
+
+        private TeeAppendable(Appendable first, Appendable second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public Appendable append(CharSequence text) throws IOException {
+            first.append(text);
+            second.append(text);
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence text, int start, int end) throws IOException {
+            first.append(text, start, end);
+            second.append(text, start, end);
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            first.append(c);
+            second.append(c);
+            return this;
+        }
+    }
+
+    private static class GeneratedEntity {
+        private final String className;
+        private final String content;
+        private final Throwable error;
+
+        private GeneratedEntity(String className, String content, Throwable error) {
+            this.className = className;
+            this.content = content;
+            this.error = error;
+        }
+    }
+
+    public static class Result {
+        private final int entities;
+        private final int threads;
+        private final long generationNanos;
+        private final long writeNanos;
+        private final long totalNanos;
+
+        public Result(int entities, int threads, long generationNanos, long writeNanos, long totalNanos) {
+            this.entities = entities;
+            this.threads = threads;
+            this.generationNanos = generationNanos;
+            this.writeNanos = writeNanos;
+            this.totalNanos = totalNanos;
+        }
+
+        public int getEntities() {
+            return entities;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        // Tiempo de generación acumulado entre todos los hilos
+        public long getGenerationNanos() {
+            return generationNanos;
+        }
+
+        public long getWriteNanos() {
+            return writeNanos;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+    }
+}
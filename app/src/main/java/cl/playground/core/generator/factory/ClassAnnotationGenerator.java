@@ -1,21 +1,33 @@
 package cl.playground.core.generator.factory;
 
+import cl.playground.core.generator.mapping.GeneratorOptions;
+import cl.playground.core.generator.mapping.PersistableRules;
+import cl.playground.core.generator.naming.NamingService;
 import cl.playground.core.model.ColumnMetadata;
+import cl.playground.core.model.IndexMetadata;
 import cl.playground.core.model.RelationMetadata;
+import cl.playground.core.model.TableIndex;
 import cl.playground.core.model.TableMetadata;
+import cl.playground.core.writer.SourceWriter;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class ClassAnnotationGenerator {
 
     private final boolean useLombok;
+    private final NamingService naming;
+    private final PersistableRules persistableRules;
 
-    public ClassAnnotationGenerator(boolean useLombok) {
-        this.useLombok = useLombok;
+    public ClassAnnotationGenerator(GeneratorOptions options) {
+        this.useLombok = options.isUseLombok();
+        this.naming = options.getNaming();
+        this.persistableRules = options.getPersistableRules();
     }
 
-    public void generateClassAnnotations(TableMetadata table, StringBuilder builder) {
+    public void generateClassAnnotations(TableMetadata table, TableIndex index, SourceWriter builder) {
         builder.append("@Entity\n");
 
         // Agregar anotaciones de Lombok si está habilitado
@@ -26,12 +38,12 @@ public class ClassAnnotationGenerator {
             // Generar @ToString con exclude para las relaciones ManyToOne
             List<String> foreignKeyFields = table.getRelations().stream()
                 .filter(RelationMetadata::isManyToOne)
-                .map(relation -> UtilsFactory.generateFieldName(relation.getSourceColumn())) // Usar generateFieldName para consistencia
+                .map(relation -> naming.fieldName(relation.getSourceColumn())) // Usar generateFieldName para consistencia
                 .collect(Collectors.toList());
 
             boolean hasMapsId = table.getRelations().stream()
                 .filter(RelationMetadata::isManyToOne)
-                .anyMatch(rel -> table.getPrimaryKeys().contains(rel.getSourceColumn()));
+                .anyMatch(rel -> index.isPrimaryKey(rel.getSourceColumn()));
 
             if (!foreignKeyFields.isEmpty() && !hasMapsId) {
                 builder.append("@ToString(exclude = {");
@@ -47,13 +59,16 @@ public class ClassAnnotationGenerator {
             }
 
             builder.append("@NoArgsConstructor\n");
-            builder.append("@AllArgsConstructor\n");
+            // Las entidades Persistable escriben el constructor sin el flag isNew (ClassConstructorsGenerator)
+            if (!persistableRules.appliesTo(table, index)) {
+                builder.append("@AllArgsConstructor\n");
+            }
         }
 
         // Asegurar que el nombre de la tabla siempre esté en plural
         String tableName = table.getTableName().toLowerCase();
         if (!tableName.endsWith("s")) {
-            tableName = UtilsFactory.toPlural(tableName);
+            tableName = naming.plural(tableName);
         }
 
         builder.append("@Table(name = \"").append(tableName).append("\"");
@@ -86,11 +101,19 @@ public class ClassAnnotationGenerator {
             builder.append("    }");
         }
 
-        // Añadir índices (indexes)
-        if (!uniqueColumns.isEmpty()) {
+        // Añadir índices (indexes): los de las columnas UNIQUE y luego los declarados con CREATE INDEX
+        Set<String> indexNames = new HashSet<>();
+        for (ColumnMetadata column : uniqueColumns) {
+            indexNames.add("idx_" + tableName + "_" + column.getColumnName().toLowerCase());
+        }
+        List<IndexMetadata> declaredIndexes = UtilsFactory.mappableIndexes(table).stream()
+            .filter(declared -> indexNames.add(declared.getIndexName()))
+            .collect(Collectors.toList());
+
+        if (!uniqueColumns.isEmpty() || !declaredIndexes.isEmpty()) {
             builder.append(",\n    indexes = {\n");
-            for (int i = 0; i < uniqueColumns.size(); i++) {
-                ColumnMetadata column = uniqueColumns.get(i);
+            int remaining = uniqueColumns.size() + declaredIndexes.size();
+            for (ColumnMetadata column : uniqueColumns) {
                 builder.append("        @Index(\n")
                     .append("            name = \"idx_")
                     .append(tableName)
@@ -101,14 +124,27 @@ public class ClassAnnotationGenerator {
                     .append(column.getColumnName())
                     .append("\"\n")
                     .append("        )");
-                if (i < uniqueColumns.size() - 1) {
-                    builder.append(",");
-                }
-                builder.append("\n");
+                builder.append(--remaining > 0 ? ",\n" : "\n");
+            }
+            for (IndexMetadata declared : declaredIndexes) {
+                generateIndex(declared, builder);
+                builder.append(--remaining > 0 ? ",\n" : "\n");
             }
             builder.append("    }");
         }
 
         builder.append(")\n");
     }
+
+    // JPA no expresa la condición WHERE: un índice parcial se genera sobre toda la tabla y, si es UNIQUE,
+    // sin unique, porque la restricción sobre todas las filas rechazaría datos válidos
+    private void generateIndex(IndexMetadata index, SourceWriter builder) {
+        builder.append("        @Index(\n")
+            .append("            name = \"").append(index.getIndexName()).append("\",\n")
+            .append("            columnList = \"").append(String.join(", ", index.getColumns())).append("\"");
+        if (index.isUnique() && index.getPredicate() == null) {
+            builder.append(",\n            unique = true");
+        }
+        builder.append("\n        )");
+    }
 }
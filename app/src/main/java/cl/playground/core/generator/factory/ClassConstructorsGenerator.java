@@ -1,33 +1,47 @@
 package cl.playground.core.generator.factory;
 
+import cl.playground.core.generator.mapping.GeneratorOptions;
+import cl.playground.core.generator.mapping.PersistableRules;
+import cl.playground.core.generator.naming.NamingService;
 import cl.playground.core.model.ColumnMetadata;
 import cl.playground.core.model.RelationMetadata;
+import cl.playground.core.model.TableIndex;
 import cl.playground.core.model.TableMetadata;
-import cl.playground.core.types.PostgreSQLToJavaType;
+import cl.playground.core.writer.SourceWriter;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class ClassConstructorsGenerator {
 
     private final boolean useLombok;
+    private final NamingService naming;
+    private final PersistableRules persistableRules;
 
-    public ClassConstructorsGenerator(boolean useLombok) {
-        this.useLombok = useLombok;
+    public ClassConstructorsGenerator(GeneratorOptions options) {
+        this.useLombok = options.isUseLombok();
+        this.naming = options.getNaming();
+        this.persistableRules = options.getPersistableRules();
     }
 
-    public void generateConstructors(TableMetadata table, String className, StringBuilder builder) {
+    public void generateConstructors(TableMetadata table, TableIndex index, String className, SourceWriter builder) {
         // Si Lombok está habilitado, no generar constructores
         if (useLombok) {
+            // salvo el de todos los campos de una entidad Persistable: @AllArgsConstructor incluiría el flag isNew
+            if (persistableRules.appliesTo(table, index)) {
+                generateAllArgsConstructor(table, index, className, builder);
+            }
             return;
         }
 
         // Constructor vacío
         builder.append("    public ").append(className).append("() {}\n\n");
 
-        // Constructor con todos los campos
+        generateAllArgsConstructor(table, index, className, builder);
+    }
+
+    // Constructor con todos los campos
+    private void generateAllArgsConstructor(TableMetadata table, TableIndex index, String className, SourceWriter builder) {
         builder.append("    public ").append(className).append("(");
 
         List<String> constructorParams = new ArrayList<>();
@@ -37,11 +51,10 @@ public class ClassConstructorsGenerator {
 
             // Agregar campos no-FK y no-PK
             for (ColumnMetadata column : table.getColumns()) {
-                boolean isForeignKey = table.getRelations().stream()
-                    .anyMatch(rel -> rel.getSourceColumn().equals(column.getColumnName()) && rel.isManyToOne());
-                if (!table.getPrimaryKeys().contains(column.getColumnName()) && !isForeignKey) {
-                    String javaType = PostgreSQLToJavaType.getJavaType(column.getColumnType());
-                    String fieldName = UtilsFactory.generateFieldName(column.getColumnName());
+                boolean isForeignKey = index.isForeignKey(column.getColumnName());
+                if (!index.isPrimaryKey(column.getColumnName()) && !isForeignKey) {
+                    String javaType = column.getResolvedType().getJavaType();
+                    String fieldName = naming.fieldName(column.getColumnName());
                     constructorParams.add(javaType + " " + fieldName);
                 }
             }
@@ -49,10 +62,8 @@ public class ClassConstructorsGenerator {
             // Agregar campos FK (relaciones ManyToOne)
             for (RelationMetadata relation : table.getRelations()) {
                 if (relation.isManyToOne()) {
-                    String targetClass = Arrays.stream(relation.getTargetTable().toLowerCase().split("_"))
-                        .map(word -> Character.toUpperCase(word.charAt(0)) + word.substring(1))
-                        .collect(Collectors.joining());
-                    String fieldName = UtilsFactory.generateFieldName(relation.getSourceColumn());
+                    String targetClass = naming.className(relation.getTargetTable());
+                    String fieldName = naming.fieldName(relation.getSourceColumn());
                     constructorParams.add(targetClass + " " + fieldName);
                 }
             }
@@ -64,10 +75,9 @@ public class ClassConstructorsGenerator {
 
             // Asignar campos no-FK y no-PK
             for (ColumnMetadata column : table.getColumns()) {
-                boolean isForeignKey = table.getRelations().stream()
-                    .anyMatch(rel -> rel.getSourceColumn().equals(column.getColumnName()) && rel.isManyToOne());
-                if (!table.getPrimaryKeys().contains(column.getColumnName()) && !isForeignKey) {
-                    String fieldName = UtilsFactory.generateFieldName(column.getColumnName());
+                boolean isForeignKey = index.isForeignKey(column.getColumnName());
+                if (!index.isPrimaryKey(column.getColumnName()) && !isForeignKey) {
+                    String fieldName = naming.fieldName(column.getColumnName());
                     builder.append("        this.").append(fieldName).append(" = ").append(fieldName).append(";\n");
                 }
             }
@@ -75,18 +85,17 @@ public class ClassConstructorsGenerator {
             // Asignar campos FK
             for (RelationMetadata relation : table.getRelations()) {
                 if (relation.isManyToOne()) {
-                    String fieldName = UtilsFactory.generateFieldName(relation.getSourceColumn());
+                    String fieldName = naming.fieldName(relation.getSourceColumn());
                     builder.append("        this.").append(fieldName).append(" = ").append(fieldName).append(";\n");
                 }
             }
         } else {
             // Agregar campos no-FK
             for (ColumnMetadata column : table.getColumns()) {
-                boolean isForeignKey = table.getRelations().stream()
-                    .anyMatch(rel -> rel.getSourceColumn().equals(column.getColumnName()) && rel.isManyToOne());
+                boolean isForeignKey = index.isForeignKey(column.getColumnName());
                 if (!isForeignKey) {
-                    String javaType = PostgreSQLToJavaType.getJavaType(column.getColumnType());
-                    String fieldName = UtilsFactory.generateFieldName(column.getColumnName());
+                    String javaType = column.getResolvedType().getJavaType();
+                    String fieldName = naming.fieldName(column.getColumnName());
                     constructorParams.add(javaType + " " + fieldName);
                 }
             }
@@ -94,9 +103,8 @@ public class ClassConstructorsGenerator {
             // Agregar campos FK (relaciones ManyToOne)
             for (RelationMetadata relation : table.getRelations()) {
                 if (relation.isManyToOne()) {
-                    String targetClass = Arrays.stream(relation.getTargetTable().toLowerCase().split("_"))
-                        .map(word -> Character.toUpperCase(word.charAt(0)) + word.substring(1))
-                        .collect(Collectors.joining());                    String fieldName = UtilsFactory.generateFieldName(relation.getSourceColumn());
+                    String targetClass = naming.className(relation.getTargetTable());
+                    String fieldName = naming.fieldName(relation.getSourceColumn());
                     constructorParams.add(targetClass + " " + fieldName);
                 }
             }
@@ -106,10 +114,9 @@ public class ClassConstructorsGenerator {
 
             // Asignar campos no-FK
             for (ColumnMetadata column : table.getColumns()) {
-                boolean isForeignKey = table.getRelations().stream()
-                    .anyMatch(rel -> rel.getSourceColumn().equals(column.getColumnName()) && rel.isManyToOne());
+                boolean isForeignKey = index.isForeignKey(column.getColumnName());
                 if (!isForeignKey) {
-                    String fieldName = UtilsFactory.generateFieldName(column.getColumnName());
+                    String fieldName = naming.fieldName(column.getColumnName());
                     builder.append("        this.").append(fieldName).append(" = ").append(fieldName).append(";\n");
                 }
             }
@@ -117,7 +124,7 @@ public class ClassConstructorsGenerator {
             // Asignar campos FK
             for (RelationMetadata relation : table.getRelations()) {
                 if (relation.isManyToOne()) {
-                    String fieldName = UtilsFactory.generateFieldName(relation.getSourceColumn());
+                    String fieldName = naming.fieldName(relation.getSourceColumn());
                     builder.append("        this.").append(fieldName).append(" = ").append(fieldName).append(";\n");
                 }
             }
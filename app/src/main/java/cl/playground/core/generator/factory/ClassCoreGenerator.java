@@ -1,39 +1,54 @@
 package cl.playground.core.generator.factory;
 
+import cl.playground.core.generator.mapping.CollectionRules;
+import cl.playground.core.generator.mapping.FetchPolicy;
+import cl.playground.core.generator.mapping.FetchRules;
+import cl.playground.core.generator.mapping.GeneratorOptions;
+import cl.playground.core.generator.mapping.IdGeneration;
+import cl.playground.core.generator.mapping.PersistableRules;
+import cl.playground.core.generator.naming.NamingService;
 import cl.playground.core.model.ColumnMetadata;
 import cl.playground.core.model.RelationMetadata;
+import cl.playground.core.model.TableIndex;
 import cl.playground.core.model.TableMetadata;
-import cl.playground.core.types.PostgreSQLToJavaType;
+import cl.playground.core.writer.SourceWriter;
 
-import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 public class ClassCoreGenerator {
 
-    public void generateClassDeclaration(String className, TableMetadata table, StringBuilder builder) {
-        // Si la clase tiene clave compuesta, debe implementar Serializable
-        if (UtilsFactory.needsCompositeKey(table)) {
-            builder.append("public class ").append(className)
-                .append(" {\n\n");
-        } else {
-            builder.append("public class ").append(className).append(" {\n\n");
-        }
+    private final boolean useLombok;
+    private final NamingService naming;
+    private final FetchRules fetchRules;
+    private final CollectionRules collectionRules;
+    private final IdGeneration idGeneration;
+    private final PersistableRules persistableRules;
+
+    public ClassCoreGenerator(GeneratorOptions options) {
+        this.useLombok = options.isUseLombok();
+        this.naming = options.getNaming();
+        this.fetchRules = options.getFetchRules();
+        this.collectionRules = options.getCollectionRules();
+        this.idGeneration = options.getIdGeneration();
+        this.persistableRules = options.getPersistableRules();
     }
 
-    public void generateFields(TableMetadata table, StringBuilder builder) {
-        Set<String> foreignKeyColumns = new HashSet<>();
-        Set<String> processedOneToManyFields = new HashSet<>();
-
-        // Recolectar las columnas que son FKs de relaciones ManyToOne
-        for (RelationMetadata relation : table.getRelations()) {
-            if (relation.isManyToOne()) {
-                foreignKeyColumns.add(relation.getSourceColumn());
-            }
+    public void generateClassDeclaration(String className, TableMetadata table, TableIndex index, SourceWriter builder) {
+        builder.append("public class ").append(className);
+        if (persistableRules.appliesTo(table, index)) {
+            builder.append(" implements Persistable<")
+                .append(persistableRules.idType(table, index, naming))
+                .append(">");
         }
+        builder.append(" {\n\n");
+    }
+
+    public void generateFields(TableMetadata table, TableIndex index, SourceWriter builder) {
+        Set<RelationMetadata> collections = collectionRules.selectInverse(table, naming);
+        FetchPolicy fetch = fetchRules.forTable(table.getTableName());
 
         if (UtilsFactory.needsCompositeKey(table)) {
-            String className = UtilsFactory.generateClassName(table.getTableName());
+            String className = naming.className(table.getTableName());
             builder.append("    @EmbeddedId\n")
                 .append("    private ")
                 .append(className)
@@ -42,25 +57,25 @@ public class ClassCoreGenerator {
 
         // Generar campos para las columnas
         for (ColumnMetadata column : table.getColumns()) {
-            boolean isForeignKey = foreignKeyColumns.contains(column.getColumnName());
+            boolean isForeignKey = index.isForeignKey(column.getColumnName());
             boolean isPartOfCompositeKey = UtilsFactory.needsCompositeKey(table)
-                && table.getPrimaryKeys().contains(column.getColumnName());
+                && index.isPrimaryKey(column.getColumnName());
             boolean isForeignKeyInCompositeKey = UtilsFactory.needsCompositeKey(table)
                 && isForeignKey;
 
             if (!isForeignKey && !isPartOfCompositeKey && !isForeignKeyInCompositeKey) {
-                generateFieldAnnotations(column, table.getPrimaryKeys(), builder);
+                generateFieldAnnotations(table, column, index, builder);
                 generateFieldDeclaration(column, builder);
             }
         }
 
         // Generar campos para las relaciones
         for (RelationMetadata relation : table.getRelations()) {
-            String targetClass = UtilsFactory.generateClassName(relation.getTargetTable());
+            String targetClass = naming.className(relation.getTargetTable());
 
             if (relation.isManyToOne()) {
                 // Generar nombre del campo basado en la columna de origen
-                String fieldName = UtilsFactory.generateFieldName(relation.getSourceColumn());
+                String fieldName = naming.fieldName(relation.getSourceColumn());
 
                 // Generar nombre único para la clave foránea
                 String foreignKeyName = String.format(
@@ -70,11 +85,12 @@ public class ClassCoreGenerator {
                     relation.getSourceColumn().toLowerCase()
                                                      );
 
-                builder.append("    @ManyToOne\n");
+                // JPA carga los @ManyToOne de forma EAGER por defecto
+                builder.append(fetch.isLazyToOne() ? "    @ManyToOne(fetch = FetchType.LAZY)\n" : "    @ManyToOne\n");
 
                 if (UtilsFactory.needsCompositeKey(table)) {
                     builder.append("    @MapsId(\"")
-                        .append(UtilsFactory.generateFieldName(relation.getSourceColumn()))
+                        .append(naming.fieldName(relation.getSourceColumn()))
                         .append("\")\n");
                 }
 
@@ -93,13 +109,11 @@ public class ClassCoreGenerator {
                     .append(fieldName)
                     .append(";\n\n");
             } else {
-                // Relaciones OneToMany
-                String pluralFieldName = UtilsFactory.toPlural(UtilsFactory.generateFieldName(relation.getTargetTable()));
-
-                if (!processedOneToManyFields.contains(pluralFieldName)) {
-                    processedOneToManyFields.add(pluralFieldName);
+                // Relaciones OneToMany: solo las seleccionadas por las reglas de colecciones
+                String pluralFieldName = naming.plural(naming.fieldName(relation.getTargetTable()));
 
-                    String targetFieldName = UtilsFactory.generateFieldName(relation.getTargetColumn());
+                if (collections.contains(relation)) {
+                    String targetFieldName = naming.fieldName(relation.getTargetColumn());
 
                     builder.append("    @OneToMany(\n")
                         .append("        mappedBy = \"")
@@ -107,23 +121,43 @@ public class ClassCoreGenerator {
                         .append("\",\n")
                         .append("        cascade = CascadeType.ALL,\n")
                         .append("        orphanRemoval = true\n")
-                        .append("    )\n")
-                        .append("    private Set<")
+                        .append("    )\n");
+
+                    // Las colecciones ya son LAZY; batch y subselect evitan una consulta por cada entidad padre
+                    if (fetch.getBatchSize() > 0) {
+                        builder.append("    @BatchSize(size = ").append(fetch.getBatchSize()).append(")\n");
+                    }
+                    if (fetch.isSubselect()) {
+                        builder.append("    @Fetch(FetchMode.SUBSELECT)\n");
+                    }
+
+                    builder.append("    private Set<")
                         .append(targetClass)
                         .append("> ")
                         .append(pluralFieldName)
-                        .append(" = new HashSet<>();\n\n");
+                        // Con lazyInit el getter crea el Set en el primer acceso
+                        .append(collectionRules.isLazyInit() ? ";\n\n" : " = new HashSet<>();\n\n");
                 }
             }
         }
+
+        // Toda instancia es nueva hasta que se carga o se persiste
+        if (persistableRules.appliesTo(table, index)) {
+            builder.append("    @Transient\n");
+            // Sin setNew(boolean): solo los callbacks de JPA cambian el flag
+            if (useLombok) {
+                builder.append("    @Setter(AccessLevel.NONE)\n");
+            }
+            builder.append("    private boolean isNew = true;\n\n");
+        }
     }
 
-    private void generateFieldAnnotations(ColumnMetadata column, List<String> primaryKeys, StringBuilder builder) {
+    private void generateFieldAnnotations(TableMetadata table, ColumnMetadata column, TableIndex index, SourceWriter builder) {
         // Si es parte de la clave primaria
-        if (primaryKeys.contains(column.getColumnName())) {
+        if (index.isPrimaryKey(column.getColumnName())) {
             builder.append("    @Id\n");
-            if (column.getColumnType().toUpperCase().contains("SERIAL")) {
-                builder.append("    @GeneratedValue(strategy = GenerationType.IDENTITY)\n");
+            if (IdGeneration.isGenerated(column)) {
+                generateGeneratedValue(table, column, builder);
             }
         }
 
@@ -134,9 +168,9 @@ public class ClassCoreGenerator {
             builder.append(", nullable = false");
         }
 
-        // Si el tipo es VARCHAR, agregar length
-        if (column.getColumnType().toUpperCase().startsWith("VARCHAR")) {
-            String length = column.getColumnType().replaceAll("\\D+", "");
+        // Si el tipo es VARCHAR con longitud declarada, agregar length
+        Integer length = column.getResolvedType().getLength();
+        if (length != null) {
             builder.append(", length = ").append(length);
         }
 
@@ -152,9 +186,23 @@ public class ClassCoreGenerator {
         builder.append(")\n");
     }
 
-    private void generateFieldDeclaration(ColumnMetadata column, StringBuilder builder) {
-        String javaType = PostgreSQLToJavaType.getJavaType(column.getColumnType());
-        String fieldName = UtilsFactory.generateFieldName(column.getColumnName());
+    private void generateGeneratedValue(TableMetadata table, ColumnMetadata column, SourceWriter builder) {
+        if (idGeneration.strategyFor(column) == IdGeneration.Strategy.IDENTITY) {
+            builder.append("    @GeneratedValue(strategy = GenerationType.IDENTITY)\n");
+            return;
+        }
+        // SEQUENCE usa la secuencia de la columna, por lo que Hibernate puede insertar en lotes
+        String sequence = IdGeneration.sequenceName(table, column);
+        builder.append("    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = \"")
+            .append(sequence).append("\")\n")
+            .append("    @SequenceGenerator(name = \"").append(sequence)
+            .append("\", sequenceName = \"").append(sequence)
+            .append("\", allocationSize = ").append(idGeneration.getAllocationSize()).append(")\n");
+    }
+
+    private void generateFieldDeclaration(ColumnMetadata column, SourceWriter builder) {
+        String javaType = column.getResolvedType().getJavaType();
+        String fieldName = naming.fieldName(column.getColumnName());
 
         builder.append("    private ").append(javaType).append(" ")
             .append(fieldName).append(";\n\n");
@@ -1,31 +1,45 @@
 package cl.playground.core.generator.factory;
 
+import cl.playground.core.generator.mapping.CollectionRules;
+import cl.playground.core.generator.mapping.GeneratorOptions;
+import cl.playground.core.generator.mapping.PersistableRules;
+import cl.playground.core.generator.naming.NamingService;
 import cl.playground.core.model.ColumnMetadata;
 import cl.playground.core.model.RelationMetadata;
+import cl.playground.core.model.TableIndex;
 import cl.playground.core.model.TableMetadata;
-import cl.playground.core.types.PostgreSQLToJavaType;
+import cl.playground.core.writer.SourceWriter;
 
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public class ClassGetterAndSetterGenerator {
 
     private final boolean useLombok;
-
-    public ClassGetterAndSetterGenerator(boolean useLombok) {
-        this.useLombok = useLombok;
+    private final NamingService naming;
+    private final CollectionRules collectionRules;
+    private final PersistableRules persistableRules;
+
+    public ClassGetterAndSetterGenerator(GeneratorOptions options) {
+        this.useLombok = options.isUseLombok();
+        this.naming = options.getNaming();
+        this.collectionRules = options.getCollectionRules();
+        this.persistableRules = options.getPersistableRules();
     }
 
-    public void generateGettersAndSetters(TableMetadata table, StringBuilder builder) {
+    public void generateGettersAndSetters(TableMetadata table, TableIndex index, SourceWriter builder) {
         // Si Lombok está habilitado, no generar getters y setters
         if (useLombok) {
+            // salvo los de colecciones con inicialización diferida: Lombok no reemplaza un getter existente
+            if (collectionRules.isLazyInit()) {
+                generateLazyCollectionGetters(table, builder);
+            }
+            generatePersistableMethods(table, index, builder);
             return;
         }
 
         if (UtilsFactory.needsCompositeKey(table)) {
-            String className = UtilsFactory.generateFieldName(table.getTableName());
+            String className = naming.fieldName(table.getTableName());
             className = className.substring(0, 1).toUpperCase() + className.substring(1);
 
             builder.append("    public ").append(className).append("Id getId() {\n")
@@ -37,16 +51,14 @@ public class ClassGetterAndSetterGenerator {
                 .append("    }\n\n");
 
             for (ColumnMetadata column : table.getColumns()) {
-                boolean isForeignKey = table.getRelations().stream()
-                    .anyMatch(rel -> rel.getSourceColumn().equals(column.getColumnName()) && rel.isManyToOne());
-                if (!table.getPrimaryKeys().contains(column.getColumnName()) && !isForeignKey) {
+                boolean isForeignKey = index.isForeignKey(column.getColumnName());
+                if (!index.isPrimaryKey(column.getColumnName()) && !isForeignKey) {
                     generateGetterAndSetter(column, builder);
                 }
             }
         } else {
             for (ColumnMetadata column : table.getColumns()) {
-                boolean isForeignKey = table.getRelations().stream()
-                    .anyMatch(rel -> rel.getSourceColumn().equals(column.getColumnName()) && rel.isManyToOne());
+                boolean isForeignKey = index.isForeignKey(column.getColumnName());
                 if (!isForeignKey) {
                     generateGetterAndSetter(column, builder);
                 }
@@ -54,12 +66,13 @@ public class ClassGetterAndSetterGenerator {
         }
 
         generateRelationGettersAndSetters(table, builder);
+        generatePersistableMethods(table, index, builder);
     }
 
-    private void generateGetterAndSetter(ColumnMetadata column, StringBuilder builder) {
-        String fieldName = UtilsFactory.generateFieldName(column.getColumnName());
+    private void generateGetterAndSetter(ColumnMetadata column, SourceWriter builder) {
+        String fieldName = naming.fieldName(column.getColumnName());
         String capitalizedField = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
-        String javaType = PostgreSQLToJavaType.getJavaType(column.getColumnType());
+        String javaType = column.getResolvedType().getJavaType();
 
         // Getter
         builder.append("    public ").append(javaType).append(" get")
@@ -75,21 +88,20 @@ public class ClassGetterAndSetterGenerator {
             .append("    }\n\n");
     }
 
-    private void generateRelationGettersAndSetters(TableMetadata table, StringBuilder builder) {
+    private void generateRelationGettersAndSetters(TableMetadata table, SourceWriter builder) {
         Set<String> processedFields = new HashSet<>();
+        Set<RelationMetadata> collections = collectionRules.selectInverse(table, naming);
 
         for (RelationMetadata relation : table.getRelations()) {
-            String targetClass = Arrays.stream(relation.getTargetTable().toLowerCase().split("_"))
-                .map(word -> Character.toUpperCase(word.charAt(0)) + word.substring(1))
-                .collect(Collectors.joining());
+            String targetClass = naming.className(relation.getTargetTable());
 
             if (relation.isManyToOne()) {
-                String fieldName = UtilsFactory.generateFieldName(relation.getSourceColumn());
+                String fieldName = naming.fieldName(relation.getSourceColumn());
                 generateRelationGetterAndSetter(fieldName, targetClass, false, builder);
             } else {
                 // Para OneToMany usar el nombre en plural de la clase objetivo
-                String pluralField = UtilsFactory.toPlural(relation.getTargetTable().toLowerCase());
-                if (!processedFields.contains(pluralField)) {
+                String pluralField = naming.plural(relation.getTargetTable().toLowerCase());
+                if (collections.contains(relation) && !processedFields.contains(pluralField)) {
                     processedFields.add(pluralField);
                     generateRelationGetterAndSetter(pluralField, targetClass, true, builder);
                 }
@@ -97,22 +109,28 @@ public class ClassGetterAndSetterGenerator {
         }
     }
 
-    private void generateRelationGetterAndSetter(String fieldName, String targetClass, boolean isCollection, StringBuilder builder) {
-        String capitalizedField = Arrays.stream(fieldName.split("_"))
-            .map(word -> Character.toUpperCase(word.charAt(0)) + word.substring(1))
-            .collect(Collectors.joining());
-
-        String camelCaseField = Character.toLowerCase(capitalizedField.charAt(0)) +
-            (capitalizedField.length() > 1 ? capitalizedField.substring(1) : "");
+    private void generateLazyCollectionGetters(TableMetadata table, SourceWriter builder) {
+        for (RelationMetadata relation : collectionRules.selectInverse(table, naming)) {
+            String fieldName = naming.plural(naming.fieldName(relation.getTargetTable()));
+            generateCollectionGetter(fieldName, naming.className(relation.getTargetTable()), builder);
+        }
+    }
 
+    private void generateRelationGetterAndSetter(String fieldName, String targetClass, boolean isCollection, SourceWriter builder) {
+        String camelCaseField = naming.camelCase(fieldName);
+        String capitalizedField = Character.toUpperCase(camelCaseField.charAt(0)) + camelCaseField.substring(1);
 
         String type = isCollection ? "Set<" + targetClass + ">" : targetClass;
 
         // Getter
-        builder.append("    public ").append(type).append(" get")
-            .append(capitalizedField).append("() {\n")
-            .append("        return ").append(camelCaseField).append(";\n")
-            .append("    }\n\n");
+        if (isCollection && collectionRules.isLazyInit()) {
+            generateCollectionGetter(camelCaseField, targetClass, builder);
+        } else {
+            builder.append("    public ").append(type).append(" get")
+                .append(capitalizedField).append("() {\n")
+                .append("        return ").append(camelCaseField).append(";\n")
+                .append("    }\n\n");
+        }
 
         // Setter
         builder.append("    public void set").append(capitalizedField)
@@ -121,4 +139,43 @@ public class ClassGetterAndSetterGenerator {
             .append(camelCaseField).append(";\n")
             .append("    }\n\n");
     }
+
+    // Métodos de Persistable<ID>. getId() ya existe cuando el campo del id se llama id (getter propio o de Lombok)
+    private void generatePersistableMethods(TableMetadata table, TableIndex index, SourceWriter builder) {
+        if (!persistableRules.appliesTo(table, index)) {
+            return;
+        }
+
+        String idField = persistableRules.idField(table, naming);
+        if (!idField.equals("id")) {
+            builder.append("    @Override\n")
+                .append("    public ").append(persistableRules.idType(table, index, naming)).append(" getId() {\n")
+                .append("        return ").append(idField).append(";\n")
+                .append("    }\n\n");
+        }
+
+        builder.append("    @Override\n")
+            .append("    public boolean isNew() {\n")
+            .append("        return isNew;\n")
+            .append("    }\n\n");
+
+        builder.append("    @PostLoad\n")
+            .append("    @PostPersist\n")
+            .append("    void markNotNew() {\n")
+            .append("        this.isNew = false;\n")
+            .append("    }\n\n");
+    }
+
+    // El Set se crea en el primer acceso: las entidades cargadas o instanciadas sin tocar la colección no reservan memoria
+    private void generateCollectionGetter(String fieldName, String targetClass, SourceWriter builder) {
+        String capitalizedField = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+
+        builder.append("    public Set<").append(targetClass).append("> get")
+            .append(capitalizedField).append("() {\n")
+            .append("        if (").append(fieldName).append(" == null) {\n")
+            .append("            ").append(fieldName).append(" = new HashSet<>();\n")
+            .append("        }\n")
+            .append("        return ").append(fieldName).append(";\n")
+            .append("    }\n\n");
+    }
 }
@@ -1,19 +1,24 @@
 package cl.playground.core.generator.factory;
 
+import cl.playground.core.generator.mapping.GeneratorOptions;
+import cl.playground.core.generator.naming.NamingService;
 import cl.playground.core.model.ColumnMetadata;
+import cl.playground.core.model.TableIndex;
 import cl.playground.core.model.TableMetadata;
-import cl.playground.core.types.PostgreSQLToJavaType;
+import cl.playground.core.writer.SourceWriter;
 
 public class CompositeClassGenerator {
 
     private final boolean useLombok;
+    private final NamingService naming;
 
-    public CompositeClassGenerator(boolean useLombok) {
-        this.useLombok = useLombok;
+    public CompositeClassGenerator(GeneratorOptions options) {
+        this.useLombok = options.isUseLombok();
+        this.naming = options.getNaming();
     }
 
-    public void generateCompositeKeyClass(TableMetadata table, StringBuilder builder) {
-        String className = UtilsFactory.generateFieldName(table.getTableName());
+    public void generateCompositeKeyClass(TableMetadata table, TableIndex index, SourceWriter builder) {
+        String className = naming.fieldName(table.getTableName());
         className = className.substring(0, 1).toUpperCase() + className.substring(1);
 
         // Inicia la clase embebida
@@ -32,14 +37,14 @@ public class CompositeClassGenerator {
 
         // Genera los campos de la clave compuesta
         for (String primaryKey : table.getPrimaryKeys()) {
-            ColumnMetadata column = table.getColumns().stream()
-                .filter(c -> c.getColumnName().equals(primaryKey))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(
-                    "No se encontró una columna para la clave primaria: " + primaryKey + " en la tabla: " + table.getTableName()));
+            ColumnMetadata column = index.getColumn(primaryKey);
+            if (column == null) {
+                throw new IllegalArgumentException(
+                    "No se encontró una columna para la clave primaria: " + primaryKey + " en la tabla: " + table.getTableName());
+            }
 
-            String javaType = PostgreSQLToJavaType.getJavaType(column.getColumnType());
-            String fieldName = UtilsFactory.generateFieldName(primaryKey);
+            String javaType = column.getResolvedType().getJavaType();
+            String fieldName = naming.fieldName(primaryKey);
 
             builder.append("        @Column(name = \"")
                 .append(primaryKey.toLowerCase())
@@ -63,7 +68,7 @@ public class CompositeClassGenerator {
                 .append("            return ");
 
             for (int i = 0; i < table.getPrimaryKeys().size(); i++) {
-                String fieldName = UtilsFactory.generateFieldName(table.getPrimaryKeys().get(i));
+                String fieldName = naming.fieldName(table.getPrimaryKeys().get(i));
                 builder.append("java.util.Objects.equals(").append(fieldName).append(", that.").append(fieldName).append(")");
                 if (i < table.getPrimaryKeys().size() - 1) {
                     builder.append(" && ");
@@ -80,7 +85,7 @@ public class CompositeClassGenerator {
                 .append("            return java.util.Objects.hash(");
 
             for (int i = 0; i < table.getPrimaryKeys().size(); i++) {
-                String fieldName = UtilsFactory.generateFieldName(table.getPrimaryKeys().get(i));
+                String fieldName = naming.fieldName(table.getPrimaryKeys().get(i));
                 builder.append(fieldName);
                 if (i < table.getPrimaryKeys().size() - 1) {
                     builder.append(", ");
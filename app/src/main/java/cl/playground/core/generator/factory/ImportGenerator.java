@@ -1,9 +1,16 @@
 package cl.playground.core.generator.factory;
 
+import cl.playground.core.generator.mapping.CollectionRules;
+import cl.playground.core.generator.mapping.FetchPolicy;
+import cl.playground.core.generator.mapping.FetchRules;
+import cl.playground.core.generator.mapping.GeneratorOptions;
+import cl.playground.core.generator.mapping.IdGeneration;
+import cl.playground.core.generator.mapping.PersistableRules;
 import cl.playground.core.model.ColumnMetadata;
 import cl.playground.core.model.RelationMetadata;
+import cl.playground.core.model.TableIndex;
 import cl.playground.core.model.TableMetadata;
-import cl.playground.core.types.PostgreSQLToJavaType;
+import cl.playground.core.writer.SourceWriter;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -11,13 +18,22 @@ import java.util.Set;
 public class ImportGenerator {
 
     private final boolean useLombok;
-
-    public ImportGenerator(boolean useLombok) {
-        this.useLombok = useLombok;
+    private final FetchRules fetchRules;
+    private final CollectionRules collectionRules;
+    private final IdGeneration idGeneration;
+    private final PersistableRules persistableRules;
+
+    public ImportGenerator(GeneratorOptions options) {
+        this.useLombok = options.isUseLombok();
+        this.fetchRules = options.getFetchRules();
+        this.collectionRules = options.getCollectionRules();
+        this.idGeneration = options.getIdGeneration();
+        this.persistableRules = options.getPersistableRules();
     }
 
-    public void generateImports(TableMetadata table, StringBuilder builder) {
+    public void generateImports(TableMetadata table, TableIndex index, SourceWriter builder) {
         Set<String> imports = new HashSet<>();
+        FetchPolicy fetch = fetchRules.forTable(table.getTableName());
 
         // Agregar imports básicos
         imports.add("import jakarta.persistence.Entity;");
@@ -30,7 +46,13 @@ public class ImportGenerator {
             imports.add("import lombok.Setter;");
             imports.add("import lombok.ToString;");
             imports.add("import lombok.NoArgsConstructor;");
-            imports.add("import lombok.AllArgsConstructor;");
+            // Una entidad Persistable escribe su constructor; la clase de la clave compuesta sigue usando Lombok
+            if (persistableRules.appliesTo(table, index)) {
+                imports.add("import lombok.AccessLevel;");
+            }
+            if (!persistableRules.appliesTo(table, index) || UtilsFactory.needsCompositeKey(table)) {
+                imports.add("import lombok.AllArgsConstructor;");
+            }
 
             // Solo añadir EqualsAndHashCode si se necesita una clase compuesta
             if (UtilsFactory.needsCompositeKey(table)) {
@@ -45,16 +67,26 @@ public class ImportGenerator {
             imports.add("import java.io.Serializable;");
         } else {
             imports.add("import jakarta.persistence.Id;");
-            if (table.getColumns().stream()
-                .filter(c -> table.getPrimaryKeys().contains(c.getColumnName()))
-                .anyMatch(c -> c.getColumnType().toUpperCase().contains("SERIAL"))) {
-                imports.add("import jakarta.persistence.GeneratedValue;");
-                imports.add("import jakarta.persistence.GenerationType;");
+            for (String primaryKey : table.getPrimaryKeys()) {
+                ColumnMetadata column = index.getColumn(primaryKey);
+                if (column != null && IdGeneration.isGenerated(column)) {
+                    imports.add("import jakarta.persistence.GeneratedValue;");
+                    imports.add("import jakarta.persistence.GenerationType;");
+                    if (idGeneration.strategyFor(column) == IdGeneration.Strategy.SEQUENCE) {
+                        imports.add("import jakarta.persistence.SequenceGenerator;");
+                    }
+                }
             }
         }
 
-        boolean usesMapsId = table.getRelations().stream()
-            .anyMatch(RelationMetadata::isManyToOne); // Si hay relaciones ManyToOne que usan @MapsId
+        if (persistableRules.appliesTo(table, index)) {
+            imports.add("import org.springframework.data.domain.Persistable;");
+            imports.add("import jakarta.persistence.Transient;");
+            imports.add("import jakarta.persistence.PostLoad;");
+            imports.add("import jakarta.persistence.PostPersist;");
+        }
+
+        boolean usesMapsId = index.hasForeignKeys(); // Si hay relaciones ManyToOne que usan @MapsId
 
         if (usesMapsId && UtilsFactory.needsCompositeKey(table)) {
             imports.add("import jakarta.persistence.MapsId;");
@@ -65,11 +97,22 @@ public class ImportGenerator {
                 imports.add("import jakarta.persistence.ManyToOne;");
                 imports.add("import jakarta.persistence.JoinColumn;");
                 imports.add("import jakarta.persistence.ForeignKey;");
-            } else {
+                if (fetch.isLazyToOne()) {
+                    imports.add("import jakarta.persistence.FetchType;");
+                }
+            } else if (collectionRules.hasInverse(table)) {
                 imports.add("import jakarta.persistence.OneToMany;");
                 imports.add("import jakarta.persistence.CascadeType;");
                 imports.add("import java.util.Set;");
                 imports.add("import java.util.HashSet;");
+                // Anotaciones específicas de Hibernate
+                if (fetch.getBatchSize() > 0) {
+                    imports.add("import org.hibernate.annotations.BatchSize;");
+                }
+                if (fetch.isSubselect()) {
+                    imports.add("import org.hibernate.annotations.Fetch;");
+                    imports.add("import org.hibernate.annotations.FetchMode;");
+                }
             }
         }
 
@@ -77,9 +120,12 @@ public class ImportGenerator {
             imports.add("import jakarta.persistence.UniqueConstraint;");
             imports.add("import jakarta.persistence.Index;");
         }
+        if (!UtilsFactory.mappableIndexes(table).isEmpty()) {
+            imports.add("import jakarta.persistence.Index;");
+        }
 
         for (ColumnMetadata column : table.getColumns()) {
-            String importStatement = PostgreSQLToJavaType.getImportStatement(column.getColumnType());
+            String importStatement = column.getResolvedType().getImportStatement();
             if (importStatement != null && !importStatement.contains("java.lang.")) {
                 imports.add(importStatement);
             }
@@ -1,62 +1,35 @@
 package cl.playground.core.generator.factory;
 
+import cl.playground.core.generator.naming.PluralRules;
+import cl.playground.core.model.IndexMetadata;
 import cl.playground.core.model.TableMetadata;
 
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.List;
+
 
 public class UtilsFactory {
 
+    // Reglas predeterminadas; las factories usan NamingService, que además memoriza los resultados
     public static String toPlural(String input) {
-        if (input == null || input.isEmpty()) {
-            return input;
-        }
-
-        // Casos especiales en inglés para términos comunes en programación
-        Map<String, String> specialCases = new HashMap<>();
-        specialCases.put("user", "users");
-        specialCases.put("person", "people");
-        specialCases.put("child", "children");
-        // Agregar más casos especiales según sea necesario
-
-        // Revisar si es un caso especial
-        if (specialCases.containsKey(input.toLowerCase())) {
-            return specialCases.get(input.toLowerCase());
-        }
-
-        // Si ya termina en s, retornar como está
-        if (input.endsWith("s")) {
-            return input;
-        }
-
-        // Reglas para español
-        if (input.endsWith("z")) {
-            return input.substring(0, input.length() - 1) + "ces";
-        }
-
-        if (input.endsWith("n") || input.endsWith("l") || input.endsWith("r") ||
-            input.endsWith("d") || input.endsWith("j") ||
-            input.endsWith("ch") || input.endsWith("sh")) {
-            return input + "es";
-        }
-
-        // Regla por defecto
-        return input + "s";
+        return PluralRules.defaults().pluralize(input);
     }
 
+    // Los helpers de nombres se llaman varias veces por columna y relación: recorren el nombre una
+    // sola vez, sin expresiones regulares, split ni arreglos intermedios
+
     public static String generateClassName(String tableName) {
-        // Normalizar el nombre: eliminar caracteres no válidos
-        String sanitized = tableName.replaceAll("[^a-zA-Z0-9_]", "_").toLowerCase();
-
-        // Transformar a PascalCase
-        String[] parts = sanitized.split("_");
-        StringBuilder className = new StringBuilder();
-        for (String part : parts) {
-            if (!part.isEmpty()) {
-                className.append(Character.toUpperCase(part.charAt(0)))
-                    .append(part.substring(1));
+        // Caracteres no válidos cuentan como separador; cada palabra en PascalCase
+        StringBuilder className = new StringBuilder(tableName.length());
+        boolean capitalize = true;
+        for (int i = 0; i < tableName.length(); i++) {
+            char c = tableName.charAt(i);
+            if (c == '_' || !isAsciiLetterOrDigit(c)) {
+                capitalize = true;
+            } else if (capitalize) {
+                className.append(Character.toUpperCase(c));
+                capitalize = false;
+            } else {
+                className.append(Character.toLowerCase(c));
             }
         }
 
@@ -64,48 +37,80 @@ public class UtilsFactory {
     }
 
     public static String generateFieldName(String columnName) {
-        // 1. Convertir a minúsculas y dividir por guiones bajos
-        String[] parts = columnName.toLowerCase().split("_");
-        StringBuilder fieldName = new StringBuilder();
+        String name = columnName.toLowerCase();
 
-        // 2. Determinar si es un campo ID
-        boolean isIdField = parts.length > 0 && parts[parts.length - 1].equals("id");
-
-        // 3. Si es solo "id", retornar directamente
-        if (parts.length == 1 && isIdField) {
-            return "id";
+        // Los guiones bajos finales no forman palabras
+        int end = name.length();
+        while (end > 0 && name.charAt(end - 1) == '_') {
+            end--;
         }
 
-        // 4. Construir el nombre del campo
-        for (int i = 0; i < parts.length; i++) {
-            String part = parts[i];
+        // Determinar si es un campo ID (última palabra "id")
+        int lastSeparator = name.lastIndexOf('_', end - 1);
+        boolean isIdField = end - lastSeparator == 3 && name.startsWith("id", lastSeparator + 1);
 
-            // Ignorar la parte "id" si es el último elemento y el campo es un ID
-            if (i == parts.length - 1 && isIdField) {
-                continue;
-            }
+        // Si es solo "id", retornar directamente
+        if (isIdField && lastSeparator < 0) {
+            return "id";
+        }
 
-            if (i == 0) {
-                // Primera palabra en minúscula
-                fieldName.append(part);
+        // Primera palabra en minúscula y las siguientes capitalizadas; la palabra "id" final se omite
+        int bodyEnd = isIdField ? lastSeparator : end;
+        StringBuilder fieldName = new StringBuilder(end + 2);
+        boolean capitalize = false;
+        for (int i = 0; i < bodyEnd; i++) {
+            char c = name.charAt(i);
+            if (c == '_') {
+                capitalize = true;
+            } else if (capitalize) {
+                fieldName.append(Character.toUpperCase(c));
+                capitalize = false;
             } else {
-                // Capitalizar las siguientes palabras
-                if (!part.isEmpty()) {
-                    fieldName.append(Character.toUpperCase(part.charAt(0)))
-                        .append(part.substring(1));
-                }
+                fieldName.append(c);
             }
         }
 
-        // 5. Agregar el sufijo "Id" si es un campo de ID foráneo
-        if (isIdField && parts.length > 1) {
+        // Agregar el sufijo "Id" si es un campo de ID foráneo
+        if (isIdField) {
             fieldName.append("Id");
         }
 
         return fieldName.toString();
     }
 
+    // "order_items" -> "orderItems": capitaliza cada palabra tras un guion bajo y deja la primera letra en minúscula
+    public static String toCamelCase(String name) {
+        StringBuilder camelCase = new StringBuilder(name.length());
+        boolean capitalize = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '_') {
+                capitalize = true;
+            } else if (camelCase.length() == 0) {
+                camelCase.append(Character.toLowerCase(c));
+                capitalize = false;
+            } else if (capitalize) {
+                camelCase.append(Character.toUpperCase(c));
+                capitalize = false;
+            } else {
+                camelCase.append(c);
+            }
+        }
+        return camelCase.toString();
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
     public static boolean needsCompositeKey(TableMetadata table) {
         return table.getPrimaryKeys().size() > 1;
     }
+
+    // Índices de CREATE INDEX que se pueden expresar con @Index: columnList no admite expresiones
+    public static List<IndexMetadata> mappableIndexes(TableMetadata table) {
+        return table.getIndexes().stream()
+            .filter(index -> !index.hasExpressions())
+            .toList();
+    }
 }
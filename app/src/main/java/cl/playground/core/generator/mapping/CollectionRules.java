@@ -0,0 +1,110 @@
+package cl.playground.core.generator.mapping;
+
+import cl.playground.core.generator.naming.NamingService;
+import cl.playground.core.model.RelationMetadata;
+import cl.playground.core.model.TableMetadata;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.TreeSet;
+
+// Qué relaciones inversas (OneToMany) se emiten como colección en cada entidad. El modelo conserva
+// siempre todas las relaciones; estas reglas solo deciden qué colecciones aparecen en el código generado,
+// para no cargar en cada entidad "hub" un Set por cada tabla que la referencia.
+public class CollectionRules {
+
+    public enum Inverse {
+        ALL,
+        NONE,
+        // Solo las colecciones listadas como "tabla.tabla_referenciadora"
+        ALLOWLIST
+    }
+
+    private static final CollectionRules DEFAULTS = new CollectionRules(Inverse.ALL, Set.of(), 0, false);
+
+    private final Inverse inverse;
+    private final Set<String> allowed;
+    private final int maxPerTable;
+    private final boolean lazyInit;
+
+    private CollectionRules(Inverse inverse, Set<String> allowed, int maxPerTable, boolean lazyInit) {
+        this.inverse = inverse;
+        this.allowed = allowed;
+        this.maxPerTable = maxPerTable;
+        this.lazyInit = lazyInit;
+    }
+
+    public static CollectionRules defaults() {
+        return DEFAULTS;
+    }
+
+    // maxPerTable 0 no limita; lazyInit deja las colecciones en null hasta el primer acceso al getter
+    public static CollectionRules of(Inverse inverse, Set<String> allowed, int maxPerTable, boolean lazyInit) {
+        if (maxPerTable < 0) {
+            throw new IllegalArgumentException("maxPerTable must be zero or positive: " + maxPerTable);
+        }
+        Set<String> normalized = new TreeSet<>();
+        if (allowed != null) {
+            allowed.forEach(entry -> normalized.add(entry.trim().toLowerCase()));
+        }
+        if (inverse == Inverse.ALL && maxPerTable == 0 && !lazyInit) {
+            return DEFAULTS;
+        }
+        return new CollectionRules(inverse, normalized, maxPerTable, lazyInit);
+    }
+
+    public boolean isLazyInit() {
+        return lazyInit;
+    }
+
+    // Relaciones inversas de la tabla que se emiten: una por nombre de colección, en el orden del modelo y
+    // como máximo maxPerTable. Las factories consultan este conjunto (por identidad) al recorrer
+    // table.getRelations(), así campos, getters e imports coinciden
+    public Set<RelationMetadata> selectInverse(TableMetadata table, NamingService naming) {
+        Set<RelationMetadata> selected = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (inverse == Inverse.NONE) {
+            return selected;
+        }
+        Set<String> fieldNames = new HashSet<>();
+        for (RelationMetadata relation : table.getRelations()) {
+            if (maxPerTable > 0 && selected.size() >= maxPerTable) {
+                break;
+            }
+            if (isCandidate(table, relation) && fieldNames.add(naming.plural(naming.fieldName(relation.getTargetTable())))) {
+                selected.add(relation);
+            }
+        }
+        return selected;
+    }
+
+    // true si la entidad tendrá al menos una colección (maxPerTable nunca deja la selección vacía)
+    public boolean hasInverse(TableMetadata table) {
+        return table.getRelations().stream().anyMatch(relation -> isCandidate(table, relation));
+    }
+
+    private boolean isCandidate(TableMetadata table, RelationMetadata relation) {
+        if (relation.isManyToOne() || inverse == Inverse.NONE) {
+            return false;
+        }
+        return inverse == Inverse.ALL
+            || allowed.contains(table.getTableName().toLowerCase() + "." + relation.getTargetTable().toLowerCase());
+    }
+
+    // Vacío con las reglas predeterminadas, para no invalidar el caché de entidades existente
+    public String getCacheKey() {
+        return this == DEFAULTS ? ""
+            : ";inverse=" + inverse + ";allowed=" + allowed + ";maxPerTable=" + maxPerTable + ";lazyInit=" + lazyInit;
+    }
+
+    @Override
+    public String toString() {
+        return "CollectionRules{" +
+                "inverse=" + inverse +
+                ", allowed=" + allowed +
+                ", maxPerTable=" + maxPerTable +
+                ", lazyInit=" + lazyInit +
+                '}';
+    }
+}
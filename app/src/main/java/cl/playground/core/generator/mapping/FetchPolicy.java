@@ -0,0 +1,45 @@
+package cl.playground.core.generator.mapping;
+
+// Estrategia de carga de las relaciones de una entidad. DEFAULT reproduce los valores por defecto de JPA
+// (@ManyToOne EAGER, colecciones LAZY sin batch); las demás opciones evitan consultas N+1
+public final class FetchPolicy {
+
+    public static final FetchPolicy DEFAULT = new FetchPolicy(false, 0, false);
+
+    // fetch = FetchType.LAZY en los @ManyToOne
+    private final boolean lazyToOne;
+    // @BatchSize(size = n) de Hibernate en las colecciones; 0 para omitirlo
+    private final int batchSize;
+    // @Fetch(FetchMode.SUBSELECT) de Hibernate en las colecciones
+    private final boolean subselect;
+
+    public FetchPolicy(boolean lazyToOne, int batchSize, boolean subselect) {
+        if (batchSize < 0) {
+            throw new IllegalArgumentException("batchSize must be zero or positive: " + batchSize);
+        }
+        this.lazyToOne = lazyToOne;
+        this.batchSize = batchSize;
+        this.subselect = subselect;
+    }
+
+    public boolean isLazyToOne() {
+        return lazyToOne;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public boolean isSubselect() {
+        return subselect;
+    }
+
+    public boolean isDefault() {
+        return !lazyToOne && batchSize == 0 && !subselect;
+    }
+
+    @Override
+    public String toString() {
+        return "lazy=" + lazyToOne + ",batchSize=" + batchSize + ",subselect=" + subselect;
+    }
+}
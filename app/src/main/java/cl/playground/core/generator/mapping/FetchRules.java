@@ -0,0 +1,55 @@
+package cl.playground.core.generator.mapping;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+// Estrategias de carga configurables en sqlift.yaml: una para todas las entidades y reemplazos por tabla
+public class FetchRules {
+
+    private static final FetchRules DEFAULTS = new FetchRules(FetchPolicy.DEFAULT, Map.of());
+
+    private final FetchPolicy defaults;
+    private final Map<String, FetchPolicy> tables;
+
+    private FetchRules(FetchPolicy defaults, Map<String, FetchPolicy> tables) {
+        this.defaults = defaults;
+        this.tables = tables;
+    }
+
+    public static FetchRules defaults() {
+        return DEFAULTS;
+    }
+
+    // tables: nombre de tabla -> estrategia completa (ya combinada con la general)
+    public static FetchRules of(FetchPolicy defaults, Map<String, FetchPolicy> tables) {
+        if (defaults.isDefault() && (tables == null || tables.isEmpty())) {
+            return DEFAULTS;
+        }
+        Map<String, FetchPolicy> normalized = new TreeMap<>();
+        if (tables != null) {
+            tables.forEach((table, policy) -> normalized.put(table.toLowerCase(), policy));
+        }
+        return new FetchRules(defaults, normalized);
+    }
+
+    // Estrategia para las relaciones declaradas en la entidad de la tabla
+    public FetchPolicy forTable(String tableName) {
+        if (tables.isEmpty()) {
+            return defaults;
+        }
+        return tables.getOrDefault(tableName.toLowerCase(), defaults);
+    }
+
+    // Vacío con las reglas predeterminadas, para no invalidar el caché de entidades existente
+    public String getCacheKey() {
+        return this == DEFAULTS ? "" : ";fetch=" + defaults + ";fetchTables=" + tables;
+    }
+
+    @Override
+    public String toString() {
+        return "FetchRules{" +
+                "defaults=" + defaults +
+                ", tables=" + tables +
+                '}';
+    }
+}
@@ -0,0 +1,99 @@
+package cl.playground.core.generator.mapping;
+
+import cl.playground.core.generator.naming.NamingService;
+
+// Opciones de generación compartidas por EntityGenerator y sus factories. Es inmutable: cada with...
+// devuelve una copia, así una opción nueva se agrega aquí y no en los constructores de cada factory
+public class GeneratorOptions {
+
+    private final boolean useLombok;
+    private final NamingService naming;
+    private final FetchRules fetchRules;
+    private final CollectionRules collectionRules;
+    private final IdGeneration idGeneration;
+    private final PersistableRules persistableRules;
+
+    private GeneratorOptions(boolean useLombok, NamingService naming, FetchRules fetchRules,
+                             CollectionRules collectionRules, IdGeneration idGeneration,
+                             PersistableRules persistableRules) {
+        this.useLombok = useLombok;
+        this.naming = naming;
+        this.fetchRules = fetchRules;
+        this.collectionRules = collectionRules;
+        this.idGeneration = idGeneration;
+        this.persistableRules = persistableRules;
+    }
+
+    // Cada llamada crea su propio NamingService, cuyas cachés no deben compartirse entre ejecuciones
+    public static GeneratorOptions defaults() {
+        return new GeneratorOptions(false, new NamingService(), FetchRules.defaults(), CollectionRules.defaults(),
+            IdGeneration.defaults(), PersistableRules.defaults());
+    }
+
+    public GeneratorOptions withLombok(boolean useLombok) {
+        return new GeneratorOptions(useLombok, naming, fetchRules, collectionRules, idGeneration, persistableRules);
+    }
+
+    // Un único NamingService por ejecución, compartido por todas las factories
+    public GeneratorOptions withNaming(NamingService naming) {
+        return new GeneratorOptions(useLombok, naming, fetchRules, collectionRules, idGeneration, persistableRules);
+    }
+
+    public GeneratorOptions withFetchRules(FetchRules fetchRules) {
+        return new GeneratorOptions(useLombok, naming, fetchRules, collectionRules, idGeneration, persistableRules);
+    }
+
+    public GeneratorOptions withCollectionRules(CollectionRules collectionRules) {
+        return new GeneratorOptions(useLombok, naming, fetchRules, collectionRules, idGeneration, persistableRules);
+    }
+
+    public GeneratorOptions withIdGeneration(IdGeneration idGeneration) {
+        return new GeneratorOptions(useLombok, naming, fetchRules, collectionRules, idGeneration, persistableRules);
+    }
+
+    public GeneratorOptions withPersistableRules(PersistableRules persistableRules) {
+        return new GeneratorOptions(useLombok, naming, fetchRules, collectionRules, idGeneration, persistableRules);
+    }
+
+    public boolean isUseLombok() {
+        return useLombok;
+    }
+
+    public NamingService getNaming() {
+        return naming;
+    }
+
+    public FetchRules getFetchRules() {
+        return fetchRules;
+    }
+
+    public CollectionRules getCollectionRules() {
+        return collectionRules;
+    }
+
+    public IdGeneration getIdGeneration() {
+        return idGeneration;
+    }
+
+    public PersistableRules getPersistableRules() {
+        return persistableRules;
+    }
+
+    // Opciones que influyen en el código generado; forma parte de la huella del caché de entidades.
+    // Cada regla aporta una cadena vacía con sus valores predeterminados
+    public String getCacheKey() {
+        return "useLombok=" + useLombok + naming.getCacheKey() + fetchRules.getCacheKey()
+            + collectionRules.getCacheKey() + idGeneration.getCacheKey() + persistableRules.getCacheKey();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratorOptions{" +
+                "useLombok=" + useLombok +
+                ", fetchRules=" + fetchRules +
+                ", collectionRules=" + collectionRules +
+                ", idGeneration=" + idGeneration +
+                ", persistableRules=" + persistableRules +
+                '}';
+    }
+}
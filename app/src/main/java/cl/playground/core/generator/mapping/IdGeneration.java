@@ -0,0 +1,89 @@
+package cl.playground.core.generator.mapping;
+
+import cl.playground.core.model.ColumnMetadata;
+import cl.playground.core.model.TableMetadata;
+
+// Estrategia de @GeneratedValue para las claves que genera la base de datos: columnas SERIAL/BIGSERIAL,
+// GENERATED ... AS IDENTITY o con DEFAULT nextval('secuencia'). Con IDENTITY Hibernate necesita el INSERT
+// para conocer el id y no puede agrupar inserciones en lotes JDBC; con SEQUENCE pide los ids a la
+// secuencia de la columna y sí puede hacerlo.
+public class IdGeneration {
+
+    public enum Strategy {
+        IDENTITY,
+        SEQUENCE
+    }
+
+    private static final IdGeneration DEFAULTS = new IdGeneration(Strategy.IDENTITY, 1);
+
+    private final Strategy strategy;
+    private final int allocationSize;
+
+    private IdGeneration(Strategy strategy, int allocationSize) {
+        this.strategy = strategy;
+        this.allocationSize = allocationSize;
+    }
+
+    public static IdGeneration defaults() {
+        return DEFAULTS;
+    }
+
+    // allocationSize debe coincidir con el INCREMENT BY de la secuencia (1 en las implícitas de Postgres)
+    public static IdGeneration sequence(int allocationSize) {
+        if (allocationSize < 1) {
+            throw new IllegalArgumentException("allocationSize must be positive: " + allocationSize);
+        }
+        return new IdGeneration(Strategy.SEQUENCE, allocationSize);
+    }
+
+    public int getAllocationSize() {
+        return allocationSize;
+    }
+
+    // true si la base de datos asigna el valor de la columna
+    public static boolean isGenerated(ColumnMetadata column) {
+        return column.getResolvedType().isSerial() || column.isIdentity() || nextvalSequence(column) != null;
+    }
+
+    // Estrategia para una columna generada. Una identidad GENERATED ALWAYS rechaza los ids explícitos,
+    // por lo que se mantiene en IDENTITY aunque se haya configurado SEQUENCE
+    public Strategy strategyFor(ColumnMetadata column) {
+        if (strategy == Strategy.SEQUENCE && "ALWAYS".equals(column.getIdentity())) {
+            return Strategy.IDENTITY;
+        }
+        return strategy;
+    }
+
+    // Secuencia de la columna: la de nextval(...) o la implícita que Postgres crea para SERIAL e IDENTITY
+    public static String sequenceName(TableMetadata table, ColumnMetadata column) {
+        String sequence = nextvalSequence(column);
+        if (sequence != null) {
+            return sequence;
+        }
+        return (table.getTableName() + "_" + column.getColumnName() + "_seq").toLowerCase();
+    }
+
+    // nextval('public.orden_seq'::regclass) -> public.orden_seq
+    private static String nextvalSequence(ColumnMetadata column) {
+        String defaultValue = column.getDefaultValue();
+        if (defaultValue == null || !defaultValue.regionMatches(true, 0, "nextval", 0, "nextval".length())) {
+            return null;
+        }
+        int open = defaultValue.indexOf('\'');
+        int close = open >= 0 ? defaultValue.indexOf('\'', open + 1) : -1;
+        return close > open + 1 ? defaultValue.substring(open + 1, close) : null;
+    }
+
+    // Vacío con la estrategia predeterminada, para no invalidar el caché de entidades existente
+    public String getCacheKey() {
+        return this == DEFAULTS ? "" : ";ids=" + strategy + ";allocationSize=" + allocationSize;
+    }
+
+    @Override
+    public String toString() {
+        return "IdGeneration{" +
+                "strategy=" + strategy +
+                ", allocationSize=" + allocationSize +
+                '}';
+    }
+}
@@ -0,0 +1,82 @@
+package cl.playground.core.generator.mapping;
+
+import cl.playground.core.generator.naming.NamingService;
+import cl.playground.core.model.ColumnMetadata;
+import cl.playground.core.model.TableIndex;
+import cl.playground.core.model.TableMetadata;
+
+// Entidades que implementan Persistable<ID> de Spring Data. Si el id lo asigna la aplicación (clave no
+// generada o compuesta), save() no puede saber si la entidad es nueva mirando el id y hace un merge, que
+// consulta la fila antes de cada INSERT. Con Persistable lo indica un flag transitorio que se apaga en
+// @PostLoad y @PostPersist, y save() hace persist directamente.
+public class PersistableRules {
+
+    private static final PersistableRules DISABLED = new PersistableRules(false);
+    private static final PersistableRules ENABLED = new PersistableRules(true);
+
+    private final boolean enabled;
+
+    private PersistableRules(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public static PersistableRules defaults() {
+        return DISABLED;
+    }
+
+    public static PersistableRules of(boolean enabled) {
+        return enabled ? ENABLED : DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Claves compuestas y claves simples asignadas. Se descarta la clave simple que es a la vez foránea,
+    // porque no tiene campo @Id propio, y la tabla con otra columna "id", cuyo getter chocaría con getId()
+    public boolean appliesTo(TableMetadata table, TableIndex index) {
+        if (!enabled || table.getPrimaryKeys().isEmpty()) {
+            return false;
+        }
+        if (table.getPrimaryKeys().size() > 1) {
+            return true;
+        }
+        String primaryKey = table.getPrimaryKeys().get(0);
+        ColumnMetadata column = index.getColumn(primaryKey);
+        if (column == null || index.isForeignKey(primaryKey) || IdGeneration.isGenerated(column)) {
+            return false;
+        }
+        return table.getColumns().stream()
+            .noneMatch(other -> other != column && other.getColumnName().equalsIgnoreCase("id"));
+    }
+
+    // Argumento de Persistable<ID>: la clase @EmbeddedId o el tipo de la columna. La clase anidada no está
+    // en alcance en la cláusula implements, por lo que se califica con la entidad
+    public String idType(TableMetadata table, TableIndex index, NamingService naming) {
+        if (table.getPrimaryKeys().size() > 1) {
+            String className = naming.className(table.getTableName());
+            return className + "." + className + "Id";
+        }
+        return index.getColumn(table.getPrimaryKeys().get(0)).getResolvedType().getJavaType();
+    }
+
+    // Campo que devuelve getId()
+    public String idField(TableMetadata table, NamingService naming) {
+        if (table.getPrimaryKeys().size() > 1) {
+            return "id";
+        }
+        return naming.fieldName(table.getPrimaryKeys().get(0));
+    }
+
+    // Vacío si está deshabilitado, para no invalidar el caché de entidades existente
+    public String getCacheKey() {
+        return enabled ? ";persistable=true" : "";
+    }
+
+    @Override
+    public String toString() {
+        return "PersistableRules{" +
+                "enabled=" + enabled +
+                '}';
+    }
+}
@@ -0,0 +1,75 @@
+package cl.playground.core.generator.naming;
+
+import cl.playground.core.generator.factory.UtilsFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// Nombres Java derivados de tablas y columnas, calculados una vez por ejecución y compartidos por
+// todas las factories. Es seguro usarlo desde varios hilos; cada caché deja de crecer al llegar a
+// su capacidad y los nombres nuevos se calculan sin guardarse.
+public class NamingService {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final PluralRules pluralRules;
+    private final int capacity;
+    private final Map<String, String> classNames = new ConcurrentHashMap<>();
+    private final Map<String, String> fieldNames = new ConcurrentHashMap<>();
+    private final Map<String, String> plurals = new ConcurrentHashMap<>();
+    private final Map<String, String> camelCaseNames = new ConcurrentHashMap<>();
+
+    public NamingService() {
+        this(PluralRules.defaults());
+    }
+
+    public NamingService(PluralRules pluralRules) {
+        this(pluralRules, DEFAULT_CAPACITY);
+    }
+
+    public NamingService(PluralRules pluralRules, int capacity) {
+        this.pluralRules = pluralRules;
+        this.capacity = Math.max(0, capacity);
+    }
+
+    public String className(String tableName) {
+        return lookup(classNames, tableName, UtilsFactory::generateClassName);
+    }
+
+    public String fieldName(String columnName) {
+        return lookup(fieldNames, columnName, UtilsFactory::generateFieldName);
+    }
+
+    public String plural(String word) {
+        return lookup(plurals, word, pluralRules::pluralize);
+    }
+
+    public String camelCase(String name) {
+        return lookup(camelCaseNames, name, UtilsFactory::toCamelCase);
+    }
+
+    public PluralRules getPluralRules() {
+        return pluralRules;
+    }
+
+    // Parte de la huella del caché de entidades: las reglas configuradas cambian el código generado
+    public String getCacheKey() {
+        return pluralRules.getCacheKey();
+    }
+
+    private String lookup(Map<String, String> cache, String key, Function<String, String> compute) {
+        if (key == null) {
+            return compute.apply(null);
+        }
+        String value = cache.get(key);
+        if (value != null) {
+            return value;
+        }
+        value = compute.apply(key);
+        if (cache.size() < capacity) {
+            cache.putIfAbsent(key, value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,84 @@
+package cl.playground.core.generator.naming;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Reglas de pluralización: formas irregulares (configurables en sqlift.yaml) y reglas por sufijo
+public class PluralRules {
+
+    // Casos especiales en inglés para términos comunes en programación
+    private static final Map<String, String> DEFAULT_IRREGULARS = Map.of(
+        "user", "users",
+        "person", "people",
+        "child", "children");
+
+    private static final PluralRules DEFAULTS = new PluralRules(DEFAULT_IRREGULARS, Map.of());
+
+    private final Map<String, String> irregulars;
+    private final Map<String, String> custom;
+
+    private PluralRules(Map<String, String> irregulars, Map<String, String> custom) {
+        this.irregulars = irregulars;
+        this.custom = custom;
+    }
+
+    public static PluralRules defaults() {
+        return DEFAULTS;
+    }
+
+    // Las formas configuradas se suman a las predeterminadas y pueden reemplazarlas
+    public static PluralRules withIrregulars(Map<String, String> plurals) {
+        if (plurals == null || plurals.isEmpty()) {
+            return DEFAULTS;
+        }
+        Map<String, String> custom = new TreeMap<>();
+        plurals.forEach((singular, plural) -> custom.put(singular.toLowerCase(), plural));
+        Map<String, String> irregulars = new HashMap<>(DEFAULT_IRREGULARS);
+        irregulars.putAll(custom);
+        return new PluralRules(irregulars, custom);
+    }
+
+    public String pluralize(String input) {
+        if (input == null || input.isEmpty()) {
+            return input;
+        }
+
+        // Revisar si es un caso especial
+        String irregular = irregulars.get(input.toLowerCase());
+        if (irregular != null) {
+            return irregular;
+        }
+
+        // Si ya termina en s, retornar como está
+        if (input.endsWith("s")) {
+            return input;
+        }
+
+        // Reglas para español
+        if (input.endsWith("z")) {
+            return input.substring(0, input.length() - 1) + "ces";
+        }
+
+        if (input.endsWith("n") || input.endsWith("l") || input.endsWith("r") ||
+            input.endsWith("d") || input.endsWith("j") ||
+            input.endsWith("ch") || input.endsWith("sh")) {
+            return input + "es";
+        }
+
+        // Regla por defecto
+        return input + "s";
+    }
+
+    // Vacío con las reglas predeterminadas, para no invalidar el caché de entidades existente
+    public String getCacheKey() {
+        return custom.isEmpty() ? "" : ";plurals=" + custom;
+    }
+
+    @Override
+    public String toString() {
+        return "PluralRules{" +
+                "custom=" + custom +
+                '}';
+    }
+}
@@ -0,0 +1,26 @@
+package cl.playground.core.metrics;
+
+// Fases de generate, en el orden en que se reportan
+public enum Phase {
+    CONFIG("config"),
+    // Lectura del archivo y extracción de las sentencias CREATE TABLE (ocurren juntas en streaming)
+    STATEMENTS("statements"),
+    PARSE("parse"),
+    RELATIONS("relations"),
+    VALIDATION("validation"),
+    GENERATE("generate"),
+    WRITE("write"),
+    FINISH("finish"),
+    CACHE("cache"),
+    COMPILE("compile");
+
+    private final String label;
+
+    Phase(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
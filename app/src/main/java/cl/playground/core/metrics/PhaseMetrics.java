@@ -0,0 +1,171 @@
+package cl.playground.core.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Métricas por fase de generate: cantidad de elementos, tiempo de pared y bytes asignados. Las
+// asignaciones se miden por hilo con ThreadMXBean, por lo que cada muestra debe iniciarse y cerrarse
+// en el mismo hilo. En las fases por tabla o por entidad los valores se suman entre todos los hilos.
+// Es segura para varios hilos; NONE no mide nada y no tiene costo.
+public class PhaseMetrics {
+
+    public static final PhaseMetrics NONE = new PhaseMetrics(false);
+
+    private final boolean enabled;
+    private final long createdAt;
+    private final Map<Phase, Totals> totals = new EnumMap<>(Phase.class);
+
+    public PhaseMetrics() {
+        this(true);
+    }
+
+    private PhaseMetrics(boolean enabled) {
+        this.enabled = enabled;
+        this.createdAt = System.nanoTime();
+        for (Phase phase : Phase.values()) {
+            totals.put(phase, new Totals());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // false si la JVM no permite medir asignaciones por hilo (los bytes se reportan como -1)
+    public static boolean isAllocationTracked() {
+        return AllocationTracking.THREADS != null;
+    }
+
+    public Sample start() {
+        if (!enabled) {
+            return Sample.NONE;
+        }
+        Sample sample = new Sample();
+        sample.restart();
+        return sample;
+    }
+
+    public void stop(Phase phase, Sample sample) {
+        stop(phase, sample, 1, null);
+    }
+
+    public void stop(Phase phase, Sample sample, int count) {
+        stop(phase, sample, count, null);
+    }
+
+    // nested es una muestra ya cerrada dentro de esta, por ejemplo la generación dentro de una escritura
+    // en streaming: su tiempo y sus asignaciones se descuentan de phase
+    public void stop(Phase phase, Sample sample, int count, Sample nested) {
+        if (!enabled) {
+            return;
+        }
+        sample.nanos = System.nanoTime() - sample.startNanos;
+        sample.bytes = allocatedBytes() - sample.startBytes;
+        long nanos = sample.nanos;
+        long bytes = sample.bytes;
+        if (nested != null && nested != Sample.NONE) {
+            nanos -= nested.nanos;
+            bytes -= nested.bytes;
+        }
+        Totals phaseTotals = totals.get(phase);
+        phaseTotals.count.add(count);
+        phaseTotals.nanos.add(nanos);
+        phaseTotals.bytes.add(bytes);
+    }
+
+    public long getCount(Phase phase) {
+        return totals.get(phase).count.sum();
+    }
+
+    public long getNanos(Phase phase) {
+        return totals.get(phase).nanos.sum();
+    }
+
+    public long getAllocatedBytes(Phase phase) {
+        return isAllocationTracked() ? totals.get(phase).bytes.sum() : -1;
+    }
+
+    // true si la fase se ejecutó al menos una vez
+    public boolean isRecorded(Phase phase) {
+        return getCount(phase) > 0 || getNanos(phase) > 0;
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - createdAt;
+    }
+
+    // Formato para tableros de build: {"elapsedNanos":..,"allocationTracked":..,"phases":[{"name":..,..}]}
+    public String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"elapsedNanos\": ").append(getElapsedNanos())
+            .append(",\n  \"allocationTracked\": ").append(isAllocationTracked())
+            .append(",\n  \"phases\": [");
+        boolean first = true;
+        for (Phase phase : Phase.values()) {
+            if (!isRecorded(phase)) {
+                continue;
+            }
+            json.append(first ? "\n" : ",\n");
+            first = false;
+            json.append("    {\"name\": \"").append(phase.getLabel())
+                .append("\", \"count\": ").append(getCount(phase))
+                .append(", \"wallNanos\": ").append(getNanos(phase))
+                .append(", \"allocatedBytes\": ").append(getAllocatedBytes(phase))
+                .append('}');
+        }
+        json.append(first ? "]\n}\n" : "\n  ]\n}\n");
+        return json.toString();
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = AllocationTracking.THREADS;
+        return threads != null ? threads.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    // Punto de inicio de una medición; restart permite reutilizarla dentro de una lambda
+    public static class Sample {
+        private static final Sample NONE = new Sample();
+
+        private long startNanos;
+        private long startBytes;
+        private long nanos;
+        private long bytes;
+
+        private Sample() {
+        }
+
+        public void restart() {
+            if (this != NONE) {
+                // Primero las asignaciones: la primera lectura inicializa ThreadMXBean y no debe contarse como tiempo
+                startBytes = allocatedBytes();
+                startNanos = System.nanoTime();
+            }
+        }
+    }
+
+    // Se inicializa al tomar la primera muestra: con NONE no se cargan las clases de management
+    private static final class AllocationTracking {
+        private static final com.sun.management.ThreadMXBean THREADS = load();
+
+        private static com.sun.management.ThreadMXBean load() {
+            try {
+                if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                    && threads.isThreadAllocatedMemorySupported()) {
+                    threads.setThreadAllocatedMemoryEnabled(true);
+                    return threads;
+                }
+            } catch (RuntimeException | LinkageError e) {
+                // Sin soporte de management (por ejemplo, en algunas imágenes nativas): solo se mide el tiempo
+            }
+            return null;
+        }
+    }
+
+    private static class Totals {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+    }
+}
@@ -1,11 +1,17 @@
 package cl.playground.core.model;
 
+import cl.playground.core.types.ColumnType;
+
 public class ColumnMetadata {
     private String columnName;
     private String columnType;
     private boolean isNotNull;
     private boolean isUnique;
     private String defaultValue;
+    // Columna GENERATED ... AS IDENTITY: "ALWAYS" o "BY DEFAULT"; null si no es de identidad
+    private String identity;
+    // Derivado de columnType: lo resuelve SchemaProcessor y los generadores solo lo leen
+    private ColumnType resolvedType;
 
     // Constructores
     public ColumnMetadata() {
@@ -33,6 +39,19 @@ public class ColumnMetadata {
 
     public void setColumnType(String columnType) {
         this.columnType = columnType;
+        this.resolvedType = null;
+    }
+
+    // Columnas creadas fuera de SchemaProcessor (por ejemplo en pruebas) lo resuelven en el primer acceso
+    public ColumnType getResolvedType() {
+        if (resolvedType == null) {
+            resolvedType = ColumnType.resolve(columnType);
+        }
+        return resolvedType;
+    }
+
+    public void setResolvedType(ColumnType resolvedType) {
+        this.resolvedType = resolvedType;
     }
 
     public boolean isNotNull() {
@@ -59,6 +78,18 @@ public class ColumnMetadata {
         this.defaultValue = defaultValue;
     }
 
+    public String getIdentity() {
+        return identity;
+    }
+
+    public void setIdentity(String identity) {
+        this.identity = identity;
+    }
+
+    public boolean isIdentity() {
+        return identity != null;
+    }
+
     @Override
     public String toString() {
         return "ColumnMetadata{" +
@@ -67,6 +98,7 @@ public class ColumnMetadata {
                 ", isNotNull=" + isNotNull +
                 ", isUnique=" + isUnique +
                 ", defaultValue='" + defaultValue + '\'' +
+                ", identity='" + identity + '\'' +
                 '}';
     }
 }
\ No newline at end of file
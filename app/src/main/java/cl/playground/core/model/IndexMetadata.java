@@ -0,0 +1,80 @@
+package cl.playground.core.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Índice declarado con CREATE [UNIQUE] INDEX. Cada elemento de columns es una columna, con " DESC"
+// si corresponde, o el texto de una expresión como lower(email)
+public class IndexMetadata {
+    private String indexName;
+    private String tableName;
+    private List<String> columns = new ArrayList<>();
+    private boolean isUnique;
+    // Condición WHERE de un índice parcial; null si cubre toda la tabla
+    private String predicate;
+    // true si algún elemento es una expresión y no una columna
+    private boolean hasExpressions;
+
+    public IndexMetadata() {
+    }
+
+    public String getIndexName() {
+        return indexName;
+    }
+
+    public void setIndexName(String indexName) {
+        this.indexName = indexName;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public void setColumns(List<String> columns) {
+        this.columns = columns;
+    }
+
+    public boolean isUnique() {
+        return isUnique;
+    }
+
+    public void setUnique(boolean unique) {
+        isUnique = unique;
+    }
+
+    public String getPredicate() {
+        return predicate;
+    }
+
+    public void setPredicate(String predicate) {
+        this.predicate = predicate;
+    }
+
+    public boolean hasExpressions() {
+        return hasExpressions;
+    }
+
+    public void setHasExpressions(boolean hasExpressions) {
+        this.hasExpressions = hasExpressions;
+    }
+
+    @Override
+    public String toString() {
+        return "IndexMetadata{" +
+                "indexName='" + indexName + '\'' +
+                ", tableName='" + tableName + '\'' +
+                ", columns=" + columns +
+                ", isUnique=" + isUnique +
+                ", predicate='" + predicate + '\'' +
+                ", hasExpressions=" + hasExpressions +
+                '}';
+    }
+}
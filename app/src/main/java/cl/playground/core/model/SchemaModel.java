@@ -0,0 +1,54 @@
+package cl.playground.core.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Esquema procesado completo: las tablas en el orden de las sentencias, indexadas por nombre
+// junto con el índice de columnas de cada una.
+public class SchemaModel {
+    private final List<TableMetadata> tables;
+    private final Map<String, TableMetadata> tablesByName;
+    private final Map<String, TableIndex> indexesByName;
+
+    public SchemaModel(List<TableMetadata> tables) {
+        this.tables = tables;
+        this.tablesByName = new HashMap<>();
+        this.indexesByName = new HashMap<>();
+        // Si un nombre se repite prevalece la primera definición
+        tables.forEach(table -> {
+            if (tablesByName.putIfAbsent(table.getTableName(), table) == null) {
+                indexesByName.put(table.getTableName(), new TableIndex(table));
+            }
+        });
+    }
+
+    public List<TableMetadata> getTables() {
+        return tables;
+    }
+
+    public TableMetadata getTable(String tableName) {
+        return tablesByName.get(tableName);
+    }
+
+    public boolean containsTable(String tableName) {
+        return tablesByName.containsKey(tableName);
+    }
+
+    // Índice de la tabla; para tablas con nombre repetido se construye uno propio
+    public TableIndex getIndex(TableMetadata table) {
+        TableIndex index = indexesByName.get(table.getTableName());
+        return index != null && index.getTable() == table ? index : new TableIndex(table);
+    }
+
+    public int size() {
+        return tables.size();
+    }
+
+    @Override
+    public String toString() {
+        return "SchemaModel{" +
+                "tables=" + tablesByName.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,64 @@
+package cl.playground.core.model;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+// Índices por nombre de una tabla ya procesada (columnas, claves primarias y claves foráneas
+// ManyToOne), para que validaciones y generadores no recorran listas por cada columna.
+// Se construye cuando la tabla está completa: no se actualiza si la tabla cambia después.
+public class TableIndex {
+    private final TableMetadata table;
+    private final Map<String, ColumnMetadata> columnsByName;
+    private final Set<String> primaryKeys;
+    private final Set<String> foreignKeyColumns;
+
+    public TableIndex(TableMetadata table) {
+        this.table = table;
+        this.columnsByName = new LinkedHashMap<>();
+        table.getColumns().forEach(column -> columnsByName.putIfAbsent(column.getColumnName(), column));
+        this.primaryKeys = new HashSet<>(table.getPrimaryKeys());
+        this.foreignKeyColumns = new HashSet<>();
+        table.getRelations().forEach(relation -> {
+            if (relation.isManyToOne()) {
+                foreignKeyColumns.add(relation.getSourceColumn());
+            }
+        });
+    }
+
+    public TableMetadata getTable() {
+        return table;
+    }
+
+    public ColumnMetadata getColumn(String columnName) {
+        return columnsByName.get(columnName);
+    }
+
+    public boolean hasColumn(String columnName) {
+        return columnsByName.containsKey(columnName);
+    }
+
+    public boolean isPrimaryKey(String columnName) {
+        return primaryKeys.contains(columnName);
+    }
+
+    // Columna origen de alguna relación ManyToOne
+    public boolean isForeignKey(String columnName) {
+        return foreignKeyColumns.contains(columnName);
+    }
+
+    public boolean hasForeignKeys() {
+        return !foreignKeyColumns.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "TableIndex{" +
+                "table='" + table.getTableName() + '\'' +
+                ", columns=" + columnsByName.keySet() +
+                ", primaryKeys=" + primaryKeys +
+                ", foreignKeyColumns=" + foreignKeyColumns +
+                '}';
+    }
+}
@@ -1,5 +1,6 @@
 package cl.playground.core.model;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class TableMetadata {
@@ -7,6 +8,8 @@ public class TableMetadata {
     private List<ColumnMetadata> columns;
     private List<String> primaryKeys;
     private List<RelationMetadata> relations;
+    // Índices de las sentencias CREATE INDEX sobre la tabla, en el orden del esquema
+    private List<IndexMetadata> indexes = new ArrayList<>();
 
     // Constructores, getters, setters
     public TableMetadata() {
@@ -52,6 +55,14 @@ public class TableMetadata {
         this.relations = relations;
     }
 
+    public List<IndexMetadata> getIndexes() {
+        return indexes;
+    }
+
+    public void setIndexes(List<IndexMetadata> indexes) {
+        this.indexes = indexes;
+    }
+
     @Override
     public String toString() {
         return "TableMetadata{" +
@@ -59,6 +70,7 @@ public class TableMetadata {
                 ", columns=" + columns +
                 ", primaryKeys=" + primaryKeys +
                 ", relations=" + relations +
+                ", indexes=" + indexes +
                 '}';
     }
 }
\ No newline at end of file
@@ -12,20 +12,7 @@ public class SqlReader {
 
     public static String readSql(String filePath) throws FileReadException {
         try {
-            Path path = Paths.get(filePath);
-
-            // Validaciones básicas
-            if (!Files.exists(path)) {
-                throw new FileReadException("SQL file not found: " + filePath);
-            }
-
-            if (!Files.isRegularFile(path)) {
-                throw new FileReadException("Path is not a file: " + filePath);
-            }
-
-            if (!filePath.toLowerCase().endsWith(".sql")) {
-                throw new FileReadException("File must have .sql extension: " + filePath);
-            }
+            Path path = validateSqlFile(filePath);
 
             // Leer el contenido
             String content = Files.readString(path, StandardCharsets.UTF_8);
@@ -41,4 +28,41 @@ public class SqlReader {
             throw new FileReadException("Error reading SQL file: " + filePath, e);
         }
     }
-}
\ No newline at end of file
+
+    // Lectura en streaming: solo se materializan las sentencias CREATE TABLE
+    public static SqlStatementReader readCreateTableStatements(String filePath) throws FileReadException {
+        try {
+            return new SqlStatementReader(validateSqlFile(filePath));
+        } catch (IOException e) {
+            throw new FileReadException("Error reading SQL file: " + filePath, e);
+        }
+    }
+
+    // Como readCreateTableStatements, incluyendo las sentencias CREATE INDEX en el orden del archivo
+    public static SqlStatementReader readSchemaStatements(String filePath) throws FileReadException {
+        try {
+            return new SqlStatementReader(validateSqlFile(filePath), true);
+        } catch (IOException e) {
+            throw new FileReadException("Error reading SQL file: " + filePath, e);
+        }
+    }
+
+    private static Path validateSqlFile(String filePath) {
+        Path path = Paths.get(filePath);
+
+        // Validaciones básicas
+        if (!Files.exists(path)) {
+            throw new FileReadException("SQL file not found: " + filePath);
+        }
+
+        if (!Files.isRegularFile(path)) {
+            throw new FileReadException("Path is not a file: " + filePath);
+        }
+
+        if (!filePath.toLowerCase().endsWith(".sql")) {
+            throw new FileReadException("File must have .sql extension: " + filePath);
+        }
+
+        return path;
+    }
+}
@@ -0,0 +1,299 @@
+package cl.playground.core.reader;
+
+import cl.playground.core.engine.CreateIndexParser;
+import cl.playground.core.engine.CreateTableParser;
+import cl.playground.core.engine.SqlLexer;
+import cl.playground.core.engine.SqlToken;
+import cl.playground.exception.FileReadException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// Recorre un archivo SQL mapeado en memoria y entrega solo las sentencias CREATE TABLE (y, si se pide,
+// CREATE INDEX). El resto de sentencias (y los bloques de datos de COPY ... FROM stdin) se saltan sin materializarse.
+public class SqlStatementReader implements Iterable<String>, Closeable {
+
+    private static final long WINDOW_SIZE = 1L << 30;
+    private static final int PREFIX_SIZE = 256;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final long size;
+    private final boolean includeIndexes;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long pos;
+    private boolean hasContent;
+    private boolean iteratorReturned;
+
+    SqlStatementReader(Path path) throws IOException {
+        this(path, false);
+    }
+
+    SqlStatementReader(Path path, boolean includeIndexes) throws IOException {
+        this.path = path;
+        this.includeIndexes = includeIndexes;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.pos = 0;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        if (iteratorReturned) {
+            throw new IllegalStateException("Iterator already obtained");
+        }
+        iteratorReturned = true;
+
+        return new Iterator<>() {
+            private String nextStatement;
+
+            @Override
+            public boolean hasNext() {
+                if (nextStatement == null) {
+                    nextStatement = readNextStatement();
+                }
+                return nextStatement != null;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                String statement = nextStatement;
+                nextStatement = null;
+                return statement;
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new FileReadException("Error closing SQL file: " + path, e);
+        }
+    }
+
+    private String readNextStatement() {
+        try {
+            while (true) {
+                long start = skipWhitespaceAndComments(pos);
+                if (start >= size) {
+                    pos = size;
+                    if (!hasContent) {
+                        throw new FileReadException("SQL file is empty: " + path);
+                    }
+                    return null;
+                }
+                hasContent = true;
+
+                long end = findStatementEnd(start);
+                pos = end;
+
+                List<SqlToken> prefix = SqlLexer.tokenize(decode(start, Math.min(end, start + PREFIX_SIZE)));
+                if (prefix.isEmpty()) {
+                    continue;
+                }
+                if (CreateTableParser.isCreateTable(prefix, 0, prefix.size())
+                    || includeIndexes && CreateIndexParser.isCreateIndex(prefix, 0, prefix.size())) {
+                    return decode(start, end);
+                }
+                if (prefix.get(0).isKeyword("COPY") && isCopyFromStdin(decode(start, end))) {
+                    pos = skipCopyData(end);
+                }
+            }
+        } catch (IOException e) {
+            throw new FileReadException("Error reading SQL file: " + path, e);
+        }
+    }
+
+    // Retorna la posición siguiente al ';' de primer nivel (o el final del archivo)
+    private long findStatementEnd(long from) throws IOException {
+        long i = from;
+        while (i < size) {
+            byte b = byteAt(i);
+            if (b == ';') {
+                return i + 1;
+            } else if (b == '\'') {
+                boolean backslashEscapes = i > from && (byteAt(i - 1) == 'E' || byteAt(i - 1) == 'e')
+                    && (i - 1 == from || !isIdentifierPart(byteAt(i - 2)));
+                i = skipQuoted(i, (byte) '\'', backslashEscapes);
+            } else if (b == '"') {
+                i = skipQuoted(i, (byte) '"', false);
+            } else if (b == '-' && i + 1 < size && byteAt(i + 1) == '-') {
+                i = skipToNextLine(i);
+            } else if (b == '/' && i + 1 < size && byteAt(i + 1) == '*') {
+                i = skipBlockComment(i);
+            } else if (b == '$' && (i == from || !isIdentifierPart(byteAt(i - 1)))) {
+                i = skipDollarQuoted(i);
+            } else {
+                i++;
+            }
+        }
+        return size;
+    }
+
+    private long skipWhitespaceAndComments(long from) throws IOException {
+        long i = from;
+        while (i < size) {
+            byte b = byteAt(i);
+            if (b == ' ' || b == '\t' || b == '\n' || b == '\r' || b == '\f') {
+                i++;
+            } else if (b == '-' && i + 1 < size && byteAt(i + 1) == '-') {
+                i = skipToNextLine(i);
+            } else if (b == '/' && i + 1 < size && byteAt(i + 1) == '*') {
+                i = skipBlockComment(i);
+            } else {
+                return i;
+            }
+        }
+        return size;
+    }
+
+    private long skipQuoted(long open, byte quote, boolean backslashEscapes) throws IOException {
+        long i = open + 1;
+        while (i < size) {
+            byte b = byteAt(i);
+            if (backslashEscapes && b == '\\') {
+                i += 2;
+            } else if (b == quote) {
+                if (i + 1 < size && byteAt(i + 1) == quote) {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return size;
+    }
+
+    private long skipToNextLine(long from) throws IOException {
+        long i = from;
+        while (i < size && byteAt(i) != '\n') {
+            i++;
+        }
+        return Math.min(i + 1, size);
+    }
+
+    private long skipBlockComment(long from) throws IOException {
+        long i = from;
+        int depth = 0;
+        while (i < size) {
+            if (byteAt(i) == '/' && i + 1 < size && byteAt(i + 1) == '*') {
+                depth++;
+                i += 2;
+            } else if (byteAt(i) == '*' && i + 1 < size && byteAt(i + 1) == '/') {
+                depth--;
+                i += 2;
+                if (depth == 0) {
+                    return i;
+                }
+            } else {
+                i++;
+            }
+        }
+        return size;
+    }
+
+    // $$...$$ o $tag$...$tag$; si no es un delimitador válido ($1, etc.) avanza un byte
+    private long skipDollarQuoted(long open) throws IOException {
+        long i = open + 1;
+        if (i < size && isIdentifierStart(byteAt(i))) {
+            while (i < size && (isIdentifierStart(byteAt(i)) || (byteAt(i) >= '0' && byteAt(i) <= '9'))) {
+                i++;
+            }
+        }
+        if (i >= size || byteAt(i) != '$') {
+            return open + 1;
+        }
+
+        int tagLength = (int) (i - open + 1);
+        long j = i + 1;
+        while (j + tagLength <= size) {
+            if (byteAt(j) == '$' && matches(open, j, tagLength)) {
+                return j + tagLength;
+            }
+            j++;
+        }
+        return size;
+    }
+
+    private boolean matches(long tagStart, long candidate, int tagLength) throws IOException {
+        for (int k = 0; k < tagLength; k++) {
+            if (byteAt(tagStart + k) != byteAt(candidate + k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isCopyFromStdin(String statement) {
+        List<SqlToken> tokens = SqlLexer.tokenize(statement);
+        for (int i = 0; i + 1 < tokens.size(); i++) {
+            if (tokens.get(i).isKeyword("FROM") && tokens.get(i + 1).isKeyword("STDIN")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Los datos de COPY terminan con una línea que contiene solo "\."
+    private long skipCopyData(long statementEnd) throws IOException {
+        long i = skipToNextLine(statementEnd);
+        while (i < size) {
+            if (byteAt(i) == '\\' && i + 1 < size && byteAt(i + 1) == '.'
+                && (i + 2 >= size || byteAt(i + 2) == '\n' || byteAt(i + 2) == '\r')) {
+                return skipToNextLine(i);
+            }
+            i = skipToNextLine(i);
+        }
+        return size;
+    }
+
+    private byte byteAt(long position) throws IOException {
+        if (window == null || position < windowStart || position >= windowStart + window.limit()) {
+            windowStart = position;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(WINDOW_SIZE, size - windowStart));
+        }
+        return window.get((int) (position - windowStart));
+    }
+
+    private String decode(long start, long end) throws IOException {
+        int length = (int) (end - start);
+        if (window != null && start >= windowStart && end <= windowStart + window.limit()) {
+            return StandardCharsets.UTF_8.decode(window.slice((int) (start - windowStart), length)).toString();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, start + buffer.position()) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        return StandardCharsets.UTF_8.decode(buffer).toString();
+    }
+
+    private static boolean isIdentifierStart(byte b) {
+        return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || b == '_' || b < 0;
+    }
+
+    private static boolean isIdentifierPart(byte b) {
+        return isIdentifierStart(b) || (b >= '0' && b <= '9') || b == '$';
+    }
+}
@@ -0,0 +1,145 @@
+package cl.playground.core.types;
+
+// Tipo de una columna resuelto una sola vez: tipo base normalizado, precisión/escala, dimensiones de
+// array, tipo Java e import. Es inmutable, por lo que puede compartirse entre los hilos del pipeline.
+public class ColumnType {
+
+    private static final ColumnType UNKNOWN = new ColumnType(null, null, null, 0, null);
+
+    private final String baseType;
+    private final Integer precision;
+    private final Integer scale;
+    private final int arrayDimensions;
+    private final PostgreSQLToJavaType postgresType;
+    private final String javaType;
+    private final String importStatement;
+
+    private ColumnType(String baseType, Integer precision, Integer scale, int arrayDimensions,
+                       PostgreSQLToJavaType postgresType) {
+        this.baseType = baseType;
+        this.precision = precision;
+        this.scale = scale;
+        this.arrayDimensions = arrayDimensions;
+        this.postgresType = postgresType;
+        // Los arrays no tienen un mapeo JPA estándar: se mantienen como Object
+        this.javaType = postgresType != null && arrayDimensions == 0 ? postgresType.getJavaType() : "Object";
+        this.importStatement = PostgreSQLToJavaType.importFor(javaType);
+    }
+
+    // Interpreta el tipo tal como lo entrega el parser, por ejemplo NUMERIC(10, 2), VARCHAR(20)[]
+    // o TIMESTAMP(3) WITH TIME ZONE
+    public static ColumnType resolve(String columnType) {
+        if (columnType == null || columnType.isBlank()) {
+            return UNKNOWN;
+        }
+
+        String type = columnType.trim();
+        int arrayDimensions = 0;
+        while (type.endsWith("[]")) {
+            arrayDimensions++;
+            type = type.substring(0, type.length() - 2).trim();
+        }
+
+        Integer precision = null;
+        Integer scale = null;
+        int open = type.indexOf('(');
+        int close = open >= 0 ? type.indexOf(')', open) : -1;
+        if (close > open) {
+            String arguments = type.substring(open + 1, close);
+            int comma = arguments.indexOf(',');
+            precision = parseNumber(comma >= 0 ? arguments.substring(0, comma) : arguments);
+            scale = comma >= 0 ? parseNumber(arguments.substring(comma + 1)) : null;
+            type = type.substring(0, open) + " " + type.substring(close + 1);
+        }
+
+        String baseType = normalizeSpaces(type).toUpperCase();
+        return new ColumnType(baseType, precision, scale, arrayDimensions, PostgreSQLToJavaType.fromName(baseType));
+    }
+
+    public String getBaseType() {
+        return baseType;
+    }
+
+    public Integer getPrecision() {
+        return precision;
+    }
+
+    public Integer getScale() {
+        return scale;
+    }
+
+    public int getArrayDimensions() {
+        return arrayDimensions;
+    }
+
+    public boolean isArray() {
+        return arrayDimensions > 0;
+    }
+
+    // Tipo PostgreSQL conocido (alias incluidos) o null; en los arrays es el tipo de los elementos
+    public PostgreSQLToJavaType getPostgresType() {
+        return postgresType;
+    }
+
+    public boolean isSerial() {
+        return postgresType == PostgreSQLToJavaType.SERIAL
+            || postgresType == PostgreSQLToJavaType.BIGSERIAL
+            || postgresType == PostgreSQLToJavaType.SMALLSERIAL;
+    }
+
+    // Longitud de VARCHAR(n); null si no es VARCHAR o no declara longitud
+    public Integer getLength() {
+        return postgresType == PostgreSQLToJavaType.VARCHAR ? precision : null;
+    }
+
+    public String getJavaType() {
+        return javaType;
+    }
+
+    // Import necesario para el tipo Java, o null si no requiere uno
+    public String getImportStatement() {
+        return importStatement;
+    }
+
+    private static Integer parseNumber(String value) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        for (int i = 0; i < trimmed.length(); i++) {
+            if (trimmed.charAt(i) < '0' || trimmed.charAt(i) > '9') {
+                return null;
+            }
+        }
+        return trimmed.length() <= 9 ? Integer.parseInt(trimmed) : null;
+    }
+
+    private static String normalizeSpaces(String value) {
+        StringBuilder normalized = new StringBuilder(value.length());
+        boolean space = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = normalized.length() > 0;
+            } else {
+                if (space) {
+                    normalized.append(' ');
+                    space = false;
+                }
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnType{" +
+                "baseType='" + baseType + '\'' +
+                ", precision=" + precision +
+                ", scale=" + scale +
+                ", arrayDimensions=" + arrayDimensions +
+                ", javaType='" + javaType + '\'' +
+                '}';
+    }
+}
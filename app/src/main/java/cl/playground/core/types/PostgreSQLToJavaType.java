@@ -1,5 +1,8 @@
 package cl.playground.core.types;
 
+import java.util.HashMap;
+import java.util.Map;
+
 public enum PostgreSQLToJavaType {
     // Numéricos
     SERIAL("Long"),
@@ -37,6 +40,37 @@ public enum PostgreSQLToJavaType {
 
     private final String javaType;
 
+    // Nombres y alias de PostgreSQL resueltos con una sola búsqueda, sin valueOf ni excepciones por columna
+    private static final Map<String, PostgreSQLToJavaType> BY_NAME = new HashMap<>();
+
+    static {
+        for (PostgreSQLToJavaType type : values()) {
+            BY_NAME.put(type.name(), type);
+        }
+        BY_NAME.put("INT2", SMALLINT);
+        BY_NAME.put("INT4", INTEGER);
+        BY_NAME.put("INT8", BIGINT);
+        BY_NAME.put("SERIAL2", SMALLSERIAL);
+        BY_NAME.put("SERIAL4", SERIAL);
+        BY_NAME.put("SERIAL8", BIGSERIAL);
+        BY_NAME.put("DEC", DECIMAL);
+        BY_NAME.put("FLOAT", DOUBLE);
+        BY_NAME.put("FLOAT4", REAL);
+        BY_NAME.put("FLOAT8", DOUBLE);
+        BY_NAME.put("DOUBLE PRECISION", DOUBLE);
+        BY_NAME.put("CHARACTER VARYING", VARCHAR);
+        BY_NAME.put("CHAR VARYING", VARCHAR);
+        BY_NAME.put("CHARACTER", CHAR);
+        BY_NAME.put("BPCHAR", CHAR);
+        BY_NAME.put("TIME WITHOUT TIME ZONE", TIME);
+        BY_NAME.put("TIMESTAMP WITHOUT TIME ZONE", TIMESTAMP);
+        // Mientras OffsetDateTime siga deshabilitado, las variantes con zona horaria usan el mismo tipo que sin zona
+        BY_NAME.put("TIME WITH TIME ZONE", TIME);
+        BY_NAME.put("TIMETZ", TIME);
+        BY_NAME.put("TIMESTAMP WITH TIME ZONE", TIMESTAMP);
+        BY_NAME.put("TIMESTAMPTZ", TIMESTAMP);
+    }
+
     PostgreSQLToJavaType(String javaType) {
         this.javaType = javaType;
     }
@@ -45,20 +79,21 @@ public enum PostgreSQLToJavaType {
         return javaType;
     }
 
+    // Tipo base ya normalizado (mayúsculas, sin precisión ni array); null si no es un tipo conocido
+    public static PostgreSQLToJavaType fromName(String baseType) {
+        return baseType != null ? BY_NAME.get(baseType) : null;
+    }
+
     public static String getJavaType(String postgresType) {
-        // Remover cualquier precisión o escala (e.g., VARCHAR(255) -> VARCHAR)
-        String baseType = postgresType.replaceAll("\\(.*\\)", "").trim().toUpperCase();
-
-        try {
-            return valueOf(baseType).getJavaType();
-        } catch (IllegalArgumentException e) {
-            // Si no encontramos el tipo, retornamos Object
-            return "Object";
-        }
+        // Si no encontramos el tipo, retornamos Object
+        return ColumnType.resolve(postgresType).getJavaType();
     }
 
     public static String getImportStatement(String postgresType) {
-        String javaType = getJavaType(postgresType);
+        return ColumnType.resolve(postgresType).getImportStatement();
+    }
+
+    static String importFor(String javaType) {
         switch (javaType) {
             // case "BigDecimal":
             // return "import java.math.BigDecimal;";
@@ -76,4 +111,4 @@ public enum PostgreSQLToJavaType {
                 return null;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,51 @@
+package cl.playground.core.writer;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Conserva en memoria el código de cada entidad mientras lo entrega al writer real, para las etapas
+// posteriores que lo necesitan (por ejemplo la compilación en memoria)
+public class CollectingEntityWriter implements EntityWriter {
+
+    private final EntityWriter delegate;
+    private final Map<String, String> sources = new ConcurrentHashMap<>();
+
+    public CollectingEntityWriter(EntityWriter delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void write(String className, String content) throws IOException {
+        sources.put(className, content);
+        delegate.write(className, content);
+    }
+
+    // El contenido se materializa igual que en la escritura no concurrente, ya que debe conservarse
+    @Override
+    public void write(String className, EntitySource source) throws IOException {
+        StringBuilder content = new StringBuilder();
+        source.writeTo(content);
+        write(className, content.toString());
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        return delegate.isConcurrent();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        delegate.finish();
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    // Nombre de clase -> código generado
+    public Map<String, String> getSources() {
+        return sources;
+    }
+}
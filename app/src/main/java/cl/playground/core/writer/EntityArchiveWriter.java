@@ -0,0 +1,162 @@
+package cl.playground.core.writer;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+// Escribe todas las entidades en un único zip/jar con un solo flujo secuencial, en lugar de crear un
+// archivo por entidad: en volúmenes de red o de contenedores se pasa de miles de llamadas al sistema de
+// archivos a unas pocas. Las entidades se guardan en memoria y se escriben en finish() ordenadas por nombre,
+// así el archivo es idéntico entre ejecuciones aunque el pipeline las entregue en otro orden. Se arma en un
+// temporal junto al destino y solo lo reemplaza si su contenido cambió.
+public class EntityArchiveWriter implements EntityWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String MANIFEST_NAME = "META-INF/MANIFEST.MF";
+    private static final String MANIFEST = "Manifest-Version: 1.0\r\nCreated-By: sqlift\r\n\r\n";
+    // Fecha fija para las entradas: el contenido del archivo no depende del momento de la generación
+    private static final LocalDateTime ENTRY_TIME = LocalDateTime.of(1980, 2, 1, 0, 0);
+    // El comentario del zip guarda la firma del contenido, para detectar sin descomprimir si cambió
+    private static final String SIGNATURE_PREFIX = "sqlift:";
+
+    private final Path archive;
+    private final Path temporary;
+    private final String entryDirectory;
+    private final ZipOutputStream zip;
+    // Ruta de cada entrada -> contenido, en el orden en que se escriben al zip
+    private final Map<String, byte[]> entries = new TreeMap<>();
+    private final MessageDigest digest = sha256();
+    private boolean finished;
+    private boolean unchanged;
+
+    public EntityArchiveWriter(Path archive, String packageName) throws IOException {
+        this.archive = archive;
+        this.entryDirectory = packageName.replace('.', '/') + "/";
+
+        Path parent = archive.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        if (!Files.isWritable(parent)) {
+            throw new IOException("Write permission denied for: " + parent);
+        }
+        this.temporary = parent.resolve("." + archive.getFileName() + "." + ProcessHandle.current().pid() + ".tmp");
+        this.zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), BUFFER_SIZE));
+
+        // Un jar lleva su manifiesto como primera entrada
+        if (archive.getFileName().toString().toLowerCase().endsWith(".jar")) {
+            putEntry(MANIFEST_NAME, MANIFEST.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    public Path getArchive() {
+        return archive;
+    }
+
+    // Solo la etapa de escritura del pipeline invoca write, siempre desde un único hilo
+    @Override
+    public void write(String className, String content) throws IOException {
+        String name = entryDirectory + className + ".java";
+        if (entries.containsKey(name)) {
+            throw new IOException("Duplicate entity in archive: " + name);
+        }
+        entries.put(name, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Si la firma coincide con la del archivo existente, este se conserva (y su fecha de modificación)
+    @Override
+    public void finish() throws IOException {
+        for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+            putEntry(entry.getKey(), entry.getValue());
+        }
+        String signature = signature();
+        zip.setComment(signature);
+        zip.close();
+        finished = true;
+
+        unchanged = signature.equals(readSignature(archive));
+        if (unchanged) {
+            Files.deleteIfExists(temporary);
+            return;
+        }
+        try {
+            Files.move(temporary, archive, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, archive, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // Sin finish (la generación falló) el archivo anterior queda intacto y el temporal se descarta
+    @Override
+    public void close() throws IOException {
+        if (!finished) {
+            try {
+                zip.close();
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        }
+    }
+
+    public int getEntities() {
+        return entries.size();
+    }
+
+    public boolean isUnchanged() {
+        return unchanged;
+    }
+
+    private void putEntry(String name, byte[] bytes) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setTimeLocal(ENTRY_TIME);
+        zip.putNextEntry(entry);
+        zip.write(bytes);
+        zip.closeEntry();
+    }
+
+    private String signature() {
+        StringBuilder lines = new StringBuilder();
+        for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+            lines.append(entry.getKey()).append('\t').append(hash(entry.getValue())).append('\n');
+        }
+        digest.reset();
+        digest.update(lines.toString().getBytes(StandardCharsets.UTF_8));
+        return SIGNATURE_PREFIX + HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String readSignature(Path archive) {
+        if (!Files.isRegularFile(archive)) {
+            return null;
+        }
+        try (ZipFile existing = new ZipFile(archive.toFile())) {
+            return existing.getComment();
+        } catch (IOException e) {
+            // Archivo corrupto o que no es un zip: se reemplaza
+            return null;
+        }
+    }
+
+    private String hash(byte[] bytes) {
+        digest.reset();
+        return HexFormat.of().formatHex(digest.digest(bytes));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package cl.playground.core.writer;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Escribe las entidades en el paquete de salida. Los archivos cuyo contenido no cambió no se
+// reescriben (se conserva su fecha de modificación) y los que ya no se generan se eliminan.
+// write puede invocarse desde varios hilos: cada entidad es un archivo distinto.
+public class EntityFileWriter implements EntityWriter {
+
+    public static final String DEFAULT_MANIFEST = ".sqlift/manifest";
+
+    // Buffer fijo por entidad en streaming, independiente del tamaño de la tabla
+    private static final int BUFFER_SIZE = 8192;
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(EntityFileWriter::sha256);
+
+    private final Path sourceRoot;
+    private final Path directory;
+    private final Path manifestPath;
+    private final Map<String, ManifestEntry> previousManifest;
+    private final Map<String, ManifestEntry> currentManifest;
+
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger unchanged = new AtomicInteger();
+    private int deleted;
+
+    public EntityFileWriter(Path sourceRoot, String packageName) throws IOException {
+        this(sourceRoot, packageName, Paths.get(DEFAULT_MANIFEST));
+    }
+
+    // El directorio del paquete se crea una sola vez, no por cada archivo
+    public EntityFileWriter(Path sourceRoot, String packageName, Path manifestPath) throws IOException {
+        this.sourceRoot = sourceRoot;
+        this.directory = sourceRoot.resolve(packageName.replace('.', File.separatorChar));
+        this.manifestPath = manifestPath;
+        this.previousManifest = readManifest(manifestPath);
+        this.currentManifest = Collections.synchronizedMap(new TreeMap<>());
+
+        Files.createDirectories(directory);
+        if (!Files.isWritable(directory)) {
+            throw new IOException("Write permission denied for: " + directory);
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public void write(String className, String content) throws IOException {
+        Path file = directory.resolve(className + ".java");
+        String key = manifestKey(file);
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        String hash = hash(bytes);
+
+        boolean changed = !isUnchanged(file, bytes.length, hash, previousManifest.get(key));
+        if (changed) {
+            Files.write(file, bytes);
+        }
+        record(key, file, hash, bytes.length, changed);
+    }
+
+    // El contenido se codifica en UTF-8 hacia un archivo temporal mientras se calcula su hash;
+    // solo reemplaza a la entidad si cambió, y un error a mitad de camino no deja archivos parciales
+    @Override
+    public void write(String className, EntitySource source) throws IOException {
+        Path file = directory.resolve(className + ".java");
+        String key = manifestKey(file);
+        // No se usa createTempFile: sus permisos restringidos pasarían a la entidad al moverla
+        Path temporary = directory.resolve("." + className + ".java." + ProcessHandle.current().pid() + ".tmp");
+        try {
+            MessageDigest digest = DIGEST.get();
+            digest.reset();
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new DigestOutputStream(Files.newOutputStream(temporary), digest), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                source.writeTo(out);
+            }
+            long size = Files.size(temporary);
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            boolean changed = !isUnchanged(file, size, hash, previousManifest.get(key));
+            if (changed) {
+                try {
+                    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            record(key, file, hash, size, changed);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        return true;
+    }
+
+    // Solo se llama tras una generación completa: elimina las entidades obsoletas y guarda el manifiesto
+    @Override
+    public void finish() throws IOException {
+        Path root = sourceRoot.toAbsolutePath().normalize();
+        for (String key : previousManifest.keySet()) {
+            Path stale = root.resolve(key).normalize();
+            // Nunca eliminar fuera de sourceRoot, aunque el manifiesto haya sido modificado a mano
+            if (!currentManifest.containsKey(key) && stale.startsWith(root) && Files.deleteIfExists(stale)) {
+                deleted++;
+            }
+        }
+        writeManifest();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    public int getWritten() {
+        return written.get();
+    }
+
+    public int getUnchanged() {
+        return unchanged.get();
+    }
+
+    public int getDeleted() {
+        return deleted;
+    }
+
+    // Las rutas del manifiesto son relativas a sourceRoot: no dependen del directorio de trabajo del proceso
+    private String manifestKey(Path file) {
+        return sourceRoot.relativize(file).toString().replace(File.separatorChar, '/');
+    }
+
+    private void record(String key, Path file, String hash, long size, boolean changed) throws IOException {
+        (changed ? written : unchanged).incrementAndGet();
+        currentManifest.put(key, new ManifestEntry(hash, size, Files.getLastModifiedTime(file).toMillis()));
+    }
+
+    private boolean isUnchanged(Path file, long size, String hash, ManifestEntry known) throws IOException {
+        if (!Files.isRegularFile(file) || Files.size(file) != size) {
+            return false;
+        }
+
+        // Si el archivo no se tocó desde la última generación basta con comparar contra el manifiesto
+        if (known != null && known.size == size
+            && known.lastModified == Files.getLastModifiedTime(file).toMillis()) {
+            return known.hash.equals(hash);
+        }
+
+        // Si no, se compara el hash del archivo actual, leído con un buffer fijo
+        MessageDigest digest = DIGEST.get();
+        digest.reset();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest()).equals(hash);
+    }
+
+    private String hash(byte[] bytes) {
+        MessageDigest digest = DIGEST.get();
+        digest.reset();
+        return HexFormat.of().formatHex(digest.digest(bytes));
+    }
+
+    private void writeManifest() throws IOException {
+        if (manifestPath.getParent() != null) {
+            Files.createDirectories(manifestPath.getParent());
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(manifestPath, StandardCharsets.UTF_8)) {
+            synchronized (currentManifest) {
+                for (Map.Entry<String, ManifestEntry> entry : currentManifest.entrySet()) {
+                    ManifestEntry value = entry.getValue();
+                    out.write(value.hash + " " + value.size + " " + value.lastModified + " " + entry.getKey());
+                    out.newLine();
+                }
+            }
+        }
+    }
+
+    private static Map<String, ManifestEntry> readManifest(Path manifestPath) throws IOException {
+        Map<String, ManifestEntry> manifest = new HashMap<>();
+        if (!Files.isRegularFile(manifestPath)) {
+            return manifest;
+        }
+
+        List<String> lines = Files.readAllLines(manifestPath, StandardCharsets.UTF_8);
+        for (String line : lines) {
+            String[] parts = line.split(" ", 4);
+            if (parts.length == 4) {
+                try {
+                    manifest.put(parts[3], new ManifestEntry(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+                } catch (NumberFormatException e) {
+                    // Entrada corrupta: se ignora y el archivo se compara por contenido
+                }
+            }
+        }
+        return manifest;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static class ManifestEntry {
+        private final String hash;
+        private final long size;
+        private final long lastModified;
+
+        private ManifestEntry(String hash, long size, long lastModified) {
+            this.hash = hash;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+}
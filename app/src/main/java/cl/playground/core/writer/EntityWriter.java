@@ -0,0 +1,31 @@
+package cl.playground.core.writer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface EntityWriter extends Closeable {
+
+    void write(String className, String content) throws IOException;
+
+    // Escritura en streaming: el contenido se emite directamente en el destino. Por defecto se
+    // materializa y se delega en write(className, content)
+    default void write(String className, EntitySource source) throws IOException {
+        StringBuilder content = new StringBuilder();
+        source.writeTo(content);
+        write(className, content.toString());
+    }
+
+    // true si write(className, source) puede invocarse desde varios hilos a la vez
+    default boolean isConcurrent() {
+        return false;
+    }
+
+    // Se invoca una sola vez, después de escribir todas las entidades sin errores
+    default void finish() throws IOException {
+    }
+
+    @FunctionalInterface
+    interface EntitySource {
+        void writeTo(Appendable out) throws IOException;
+    }
+}
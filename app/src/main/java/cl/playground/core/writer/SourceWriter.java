@@ -0,0 +1,51 @@
+package cl.playground.core.writer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+// Destino de las factories: agrega texto a cualquier Appendable (un StringBuilder o un Writer con
+// buffer hacia el archivo) con la misma API encadenable de StringBuilder. Los errores de E/S se
+// propagan como UncheckedIOException y EntityGenerator los vuelve a lanzar como IOException.
+public final class SourceWriter implements Appendable {
+
+    private final Appendable out;
+
+    public SourceWriter(Appendable out) {
+        this.out = out;
+    }
+
+    @Override
+    public SourceWriter append(CharSequence text) {
+        try {
+            out.append(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    @Override
+    public SourceWriter append(CharSequence text, int start, int end) {
+        try {
+            out.append(text, start, end);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    @Override
+    public SourceWriter append(char c) {
+        try {
+            out.append(c);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    // Números y otros valores, como en StringBuilder.append(Object)
+    public SourceWriter append(Object value) {
+        return append(String.valueOf(value));
+    }
+}
@@ -0,0 +1,106 @@
+package cl.playground.cli;
+
+import cl.playground.fixture.SchemaFixtures;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Compara el binario de native-image con el jar: mismas entidades generadas y menor tiempo de arranque.
+// Solo se ejecuta desde ./gradlew nativeImageTest, que compila el binario y define las propiedades.
+@EnabledIfSystemProperty(named = "sqlift.native.binary", matches = ".+")
+class NativeImageTest {
+
+    private static final int RUNS = 5;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testNativeBinaryMatchesJar() throws Exception {
+        String binary = System.getProperty("sqlift.native.binary");
+        String jar = System.getProperty("sqlift.jar");
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+
+        List<String> nativeCommand = List.of(binary, "generate");
+        List<String> jvmCommand = List.of(java, "-jar", jar, "generate");
+
+        Path nativeProject = createProject("native");
+        Path jvmProject = createProject("jvm");
+        run(nativeCommand, nativeProject);
+        run(jvmCommand, jvmProject);
+
+        Map<String, String> nativeEntities = readEntities(nativeProject);
+        assertEquals(8, nativeEntities.size());
+        assertEquals(readEntities(jvmProject), nativeEntities);
+
+        long nativeMillis = medianStartup(nativeCommand);
+        long jvmMillis = medianStartup(jvmCommand);
+        System.out.printf("native: %d ms | jvm: %d ms (mediana de %d ejecuciones)%n", nativeMillis, jvmMillis, RUNS);
+        assertTrue(nativeMillis < jvmMillis, "native: " + nativeMillis + " ms, jvm: " + jvmMillis + " ms");
+    }
+
+    private Path createProject(String name) throws IOException {
+        Path project = tempDir.resolve(name);
+        Files.createDirectories(project);
+        Files.writeString(project.resolve("sqlift.yaml"), """
+            version: "1"
+            sql:
+              engine: "postgres"
+              schema: "schema.sql"
+              cache: false
+              output:
+                package: "cl.playground.inventory"
+                lombok: true
+            """);
+        Files.writeString(project.resolve("schema.sql"), SchemaFixtures.INVENTORY);
+        return project;
+    }
+
+    // Tiempo total de una generación completa sobre un proyecto nuevo en cada ejecución
+    private long medianStartup(List<String> command) throws Exception {
+        List<Long> times = new ArrayList<>();
+        for (int i = 0; i < RUNS; i++) {
+            Path project = createProject("startup-" + times.size() + "-" + Paths.get(command.get(0)).getFileName());
+            long start = System.nanoTime();
+            run(command, project);
+            times.add((System.nanoTime() - start) / 1_000_000);
+        }
+        Collections.sort(times);
+        return times.get(RUNS / 2);
+    }
+
+    private void run(List<String> command, Path workingDir) throws Exception {
+        ProcessBuilder builder = new ProcessBuilder(command)
+            .directory(workingDir.toFile())
+            .redirectErrorStream(true);
+        builder.environment().put("SQLIFT_NO_DAEMON", "1");
+        Process process = builder.start();
+        String output = new String(process.getInputStream().readAllBytes());
+        assertEquals(0, process.waitFor(), output);
+        assertTrue(output.contains("Entities generated successfully"), output);
+    }
+
+    private Map<String, String> readEntities(Path project) throws IOException {
+        Path sources = project.resolve("src/main/java");
+        Map<String, String> entities = new TreeMap<>();
+        try (Stream<Path> files = Files.walk(sources)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                entities.put(sources.relativize(file).toString(), Files.readString(file));
+            }
+        }
+        return entities;
+    }
+}
@@ -0,0 +1,27 @@
+package cl.playground.cli.commands;
+
+import cl.playground.exception.ConfigurationException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenerateOptionsTest {
+
+    @Test
+    void testWatchCombinesWithOtherOptions() {
+        GenerateOptions options = GenerateOptions.parse(
+            new String[]{"generate", "--watch", "--stats", "--classpath", "libs/*"}, 1);
+
+        assertTrue(options.isWatch());
+        assertTrue(options.isStats());
+        assertTrue(options.isCompile());
+        assertEquals("libs/*", options.getClasspath());
+        assertFalse(options.isDefault());
+
+        // La posición de --watch no importa
+        assertTrue(GenerateOptions.parse(new String[]{"generate", "--compile", "--watch"}, 1).isWatch());
+        assertTrue(GenerateOptions.parse(new String[]{"generate"}, 1).isDefault());
+        assertThrows(ConfigurationException.class,
+            () -> GenerateOptions.parse(new String[]{"generate", "--watch", "--stat"}, 1));
+    }
+}
@@ -0,0 +1,76 @@
+package cl.playground.cli.commands;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaWatcherTest {
+
+    @TempDir
+    Path project;
+
+    @Test
+    void testRegeneratesOnlyChangedEntities() throws Exception {
+        Files.writeString(project.resolve("sqlift.yaml"), """
+            version: "1"
+            sql:
+              engine: "postgres"
+              schema: "schema.sql"
+              output:
+                package: "cl.playground.watch"
+                lombok: false
+            """);
+        Path schema = project.resolve("schema.sql");
+        Files.writeString(schema, """
+            CREATE TABLE users (id BIGSERIAL PRIMARY KEY, name VARCHAR(50));
+            CREATE TABLE tags (id BIGSERIAL PRIMARY KEY, label TEXT);
+            """);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+        Thread watcher = new Thread(() -> {
+            try {
+                new SchemaWatcher(new GenerateCommand(true), 50).watch(project, out, out);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                e.printStackTrace(out);
+            }
+        });
+        watcher.setDaemon(true);
+        watcher.start();
+
+        assertTrue(waitFor(output, "Watching"), output.toString(StandardCharsets.UTF_8));
+        assertTrue(Files.exists(project.resolve("src/main/java/cl/playground/watch/Users.java")));
+
+        // Solo cambia users: tags no se reescribe ni se vuelve a parsear
+        Files.writeString(schema, """
+            CREATE TABLE users (id BIGSERIAL PRIMARY KEY, name VARCHAR(80));
+            CREATE TABLE tags (id BIGSERIAL PRIMARY KEY, label TEXT);
+            """);
+
+        assertTrue(waitFor(output, "written: 1 | unchanged: 1"), output.toString(StandardCharsets.UTF_8));
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains("cache: 1/2 tables reused"));
+        assertTrue(Files.readString(project.resolve("src/main/java/cl/playground/watch/Users.java")).contains("length = 80"));
+
+        watcher.interrupt();
+        watcher.join(5_000);
+    }
+
+    private boolean waitFor(ByteArrayOutputStream output, String text) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (output.toString(StandardCharsets.UTF_8).contains(text)) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+}
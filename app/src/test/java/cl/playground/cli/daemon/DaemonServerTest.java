@@ -0,0 +1,99 @@
+package cl.playground.cli.daemon;
+
+import cl.playground.cli.CommandLineApp;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DaemonServerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testForwardsGenerateAndStops() throws Exception {
+        Path project = tempDir.resolve("project");
+        Files.createDirectories(project);
+        Files.writeString(project.resolve("sqlift.yaml"), """
+            version: "1"
+            sql:
+              engine: "postgres"
+              schema: "schema.sql"
+              output:
+                package: "cl.playground.daemon"
+                lombok: false
+            """);
+        Files.writeString(project.resolve("schema.sql"), """
+            CREATE TABLE users (id BIGSERIAL PRIMARY KEY, name VARCHAR(50));
+            CREATE TABLE posts (id BIGSERIAL PRIMARY KEY, user_id BIGINT REFERENCES users(id));
+            """);
+
+        Path socket = tempDir.resolve("d.sock");
+        DaemonClient client = new DaemonClient(socket);
+        assertFalse(client.forward(DaemonProtocol.COMMAND_GENERATE, project, System.out, System.err));
+
+        Thread daemon = new Thread(() -> {
+            try {
+                new DaemonServer(socket).serve();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        daemon.start();
+        for (int i = 0; i < 100 && !DaemonClient.isRunning(socket); i++) {
+            Thread.sleep(100);
+        }
+
+        assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(socket));
+
+        // La segunda petición reutiliza el esquema procesado en memoria. Una conexión abierta que no
+        // envía su petición no bloquea a las demás
+        String first;
+        String second;
+        try (SocketChannel idle = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+            assertTrue(idle.isConnected());
+            first = forward(client, project);
+            second = forward(client, project);
+        }
+        assertTrue(first.contains("written: 2"), first);
+        assertTrue(second.contains("unchanged: 2"), second);
+        assertTrue(second.contains("reused parsed tables"), second);
+        assertTrue(Files.exists(project.resolve("src/main/java/cl/playground/daemon/Users.java")));
+
+        // Un cliente de otro build (aquí solo la versión, sin la huella del jar) no recibe el código del daemon
+        try (SocketChannel stale = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+            DataOutputStream request = new DataOutputStream(Channels.newOutputStream(stale));
+            request.writeUTF(CommandLineApp.VERSION);
+            request.writeUTF(DaemonProtocol.COMMAND_GENERATE);
+            request.writeUTF(project.toString());
+            request.flush();
+            assertEquals(DaemonProtocol.STATUS_VERSION_MISMATCH, new DataInputStream(Channels.newInputStream(stale)).readInt());
+        }
+
+        assertTrue(client.forward(DaemonProtocol.COMMAND_STOP, project, System.out, System.err));
+        daemon.join(10_000);
+        assertFalse(daemon.isAlive());
+        assertFalse(Files.exists(socket));
+    }
+
+    private String forward(DaemonClient client, Path project) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrintStream stream = new PrintStream(out, true, StandardCharsets.UTF_8);
+        assertTrue(client.forward(DaemonProtocol.COMMAND_GENERATE, project, stream, stream));
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
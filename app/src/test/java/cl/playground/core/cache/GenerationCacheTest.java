@@ -0,0 +1,136 @@
+package cl.playground.core.cache;
+
+import cl.playground.core.engine.PostgresEngine;
+import cl.playground.core.engine.SchemaProcessor;
+import cl.playground.core.generator.EntityGenerator;
+import cl.playground.core.generator.EntityPipeline;
+import cl.playground.core.model.TableMetadata;
+import cl.playground.core.writer.EntityWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenerationCacheTest {
+
+    private static final String PACKAGE = "cl.playground.entities";
+
+    private static final String USERS = """
+        CREATE TABLE users (
+            id BIGINT PRIMARY KEY,
+            name VARCHAR(100) NOT NULL DEFAULT 'sin\tnombre'
+        );
+        """;
+
+    private static final String POSTS = """
+        CREATE TABLE posts (
+            id BIGINT PRIMARY KEY,
+            user_id BIGINT REFERENCES users(id)
+        );
+        """;
+
+    private static final String TAGS = """
+        CREATE TABLE tags (
+            id BIGINT PRIMARY KEY,
+            label TEXT UNIQUE
+        );
+        """;
+
+    private static final String COMMENTS = """
+        CREATE TABLE comments (
+            id BIGINT PRIMARY KEY,
+            author_id BIGINT REFERENCES users(id)
+        );
+        """;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCodecRoundTrip() {
+        TableMetadata table = new PostgresEngine().parseCreateTable(USERS + POSTS);
+        TableMetadata decoded = TableMetadataCodec.decode(TableMetadataCodec.encode(table));
+        assertEquals(table.toString(), decoded.toString());
+
+        TableMetadata indexed = new SchemaProcessor(new PostgresEngine())
+            .buildSchemaModel(USERS + "CREATE INDEX idx_users_name ON users (name DESC) WHERE name <> '';")
+            .getTable("users");
+        assertEquals(1, indexed.getIndexes().size());
+        assertEquals(indexed.toString(), TableMetadataCodec.decode(TableMetadataCodec.encode(indexed)).toString());
+    }
+
+    @Test
+    void testReusesUnchangedTablesAndInvalidatesReferencedOnes() throws IOException {
+        Run first = generate(List.of(USERS, POSTS, TAGS));
+        assertEquals(0, first.cache.getStatementHits());
+        assertEquals(0, first.cache.getEntityHits());
+
+        // Sin cambios (salvo espacios) todo se reutiliza y el resultado es idéntico
+        Run second = generate(List.of(USERS.replace("    ", "\t"), POSTS, TAGS));
+        assertEquals(3, second.cache.getStatementHits());
+        assertEquals(3, second.cache.getEntityHits());
+        assertEquals(first.entities, second.entities);
+
+        // Una tabla nueva que referencia a users agrega una relación inversa: users se regenera
+        Run third = generate(List.of(USERS, POSTS, TAGS, COMMENTS));
+        assertEquals(3, third.cache.getStatementHits());
+        assertEquals(2, third.cache.getEntityHits()); // posts y tags
+        assertEquals(2, third.cache.getEntityMisses()); // users y comments
+        assertEquals(generateWithoutCache(List.of(USERS, POSTS, TAGS, COMMENTS)), third.entities);
+        assertNotEquals(second.entities.get("Users"), third.entities.get("Users"));
+    }
+
+    @Test
+    void testFingerprintKeepsCommentsAndLiteralsApart() {
+        // El comentario termina en el salto de línea: con él la tabla tiene dos columnas, sin él una
+        assertNotEquals(
+            GenerationCache.fingerprint("CREATE TABLE t (id INT PRIMARY KEY, -- note\n age INT);"),
+            GenerationCache.fingerprint("CREATE TABLE t (id INT PRIMARY KEY, -- note age INT);"));
+        assertNotEquals(
+            GenerationCache.fingerprint("CREATE TABLE t (name TEXT DEFAULT 'a  b');"),
+            GenerationCache.fingerprint("CREATE TABLE t (name TEXT DEFAULT 'a b');"));
+
+        // Los espacios fuera de los literales y el texto de los comentarios no cuentan
+        assertEquals(
+            GenerationCache.fingerprint("CREATE TABLE t (id INT, -- uno\n name TEXT DEFAULT 'a  b');"),
+            GenerationCache.fingerprint("CREATE TABLE t (\n\tid INT, /* dos */ name TEXT DEFAULT 'a  b'\n);"));
+    }
+
+    private Run generate(List<String> statements) throws IOException {
+        GenerationCache cache = new GenerationCache(tempDir.resolve("cache"), "useLombok=false");
+        List<TableMetadata> tables = new SchemaProcessor(new PostgresEngine(), 1, cache).processStatements(statements);
+        Map<String, String> entities = new TreeMap<>();
+        new EntityPipeline(new EntityGenerator(false), 2, cache).run(tables, PACKAGE, collector(entities));
+        cache.save();
+        return new Run(cache, entities);
+    }
+
+    private Map<String, String> generateWithoutCache(List<String> statements) throws IOException {
+        List<TableMetadata> tables = new SchemaProcessor(new PostgresEngine()).processStatements(statements);
+        Map<String, String> entities = new TreeMap<>();
+        new EntityPipeline(new EntityGenerator(false), 1).run(tables, PACKAGE, collector(entities));
+        return entities;
+    }
+
+    private EntityWriter collector(Map<String, String> entities) {
+        return new EntityWriter() {
+            @Override
+            public void write(String className, String content) {
+                entities.put(className, content);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private record Run(GenerationCache cache, Map<String, String> entities) {
+    }
+}
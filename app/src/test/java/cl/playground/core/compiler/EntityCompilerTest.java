@@ -0,0 +1,132 @@
+package cl.playground.core.compiler;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.jar.JarFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityCompilerTest {
+
+    private static final String PACKAGE = "cl.playground.entities";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCompilesInMemoryAndWritesJar() throws IOException {
+        Map<String, String> sources = new TreeMap<>();
+        sources.put("User", "package cl.playground.entities;\n\npublic class User {\n    private Long id;\n}\n");
+        sources.put("Post", """
+            package cl.playground.entities;
+
+            public class Post {
+                private User author;
+
+                public static class PostId implements java.io.Serializable {
+                }
+            }
+            """);
+
+        EntityCompiler compiler = new EntityCompiler(null);
+        CompilationResult result = compiler.compile(PACKAGE, sources, Map.of("User", "users", "Post", "posts"));
+
+        assertTrue(result.isSuccess());
+        assertEquals(0, result.getErrorCount());
+        assertEquals(List.of("cl.playground.entities.Post", "cl.playground.entities.Post$PostId",
+            "cl.playground.entities.User"), List.copyOf(result.getClasses().keySet()));
+
+        Path jar = tempDir.resolve("build/entities.jar");
+        compiler.writeClasses(result, jar);
+        try (JarFile file = new JarFile(jar.toFile())) {
+            assertNotNull(file.getManifest());
+            assertNotNull(file.getEntry("cl/playground/entities/Post$PostId.class"));
+        }
+
+        compiler.writeClasses(result, tempDir.resolve("classes"));
+        assertTrue(Files.isRegularFile(tempDir.resolve("classes/cl/playground/entities/User.class")));
+    }
+
+    @Test
+    void testGroupsErrorsByTable() throws IOException {
+        Map<String, String> sources = new TreeMap<>();
+        sources.put("User", "package cl.playground.entities;\n\npublic class User {\n    private Long id;\n}\n");
+        sources.put("Post", "package cl.playground.entities;\n\npublic class Post {\n    private Author author;\n}\n");
+
+        CompilationResult result = new EntityCompiler(null)
+            .compile(PACKAGE, sources, Map.of("User", "users", "Post", "posts"));
+
+        assertFalse(result.isSuccess());
+        assertEquals(List.of("posts"), List.copyOf(result.getErrorsByTable().keySet()));
+        String error = result.getErrorsByTable().get("posts").get(0);
+        assertTrue(error.startsWith("Post.java:4: "), error);
+    }
+
+    @Test
+    void testCompilesSourcesGeneratedByProcessors() throws IOException {
+        // Procesador mínimo al estilo de hibernate-jpamodelgen: una fuente User_ y un recurso por compilación
+        Path processorDir = tempDir.resolve("processor");
+        Path processorSource = processorDir.resolve("MetaProcessor.java");
+        Files.createDirectories(processorDir);
+        Files.writeString(processorSource, """
+            import java.io.IOException;
+            import java.io.UncheckedIOException;
+            import java.io.Writer;
+            import java.util.Set;
+            import javax.annotation.processing.AbstractProcessor;
+            import javax.annotation.processing.RoundEnvironment;
+            import javax.annotation.processing.SupportedAnnotationTypes;
+            import javax.lang.model.SourceVersion;
+            import javax.lang.model.element.TypeElement;
+            import javax.tools.StandardLocation;
+
+            @SupportedAnnotationTypes("*")
+            public class MetaProcessor extends AbstractProcessor {
+                private boolean generated;
+
+                @Override
+                public SourceVersion getSupportedSourceVersion() {
+                    return SourceVersion.latestSupported();
+                }
+
+                @Override
+                public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+                    if (generated) {
+                        return false;
+                    }
+                    generated = true;
+                    try (Writer source = processingEnv.getFiler().createSourceFile("cl.playground.entities.User_").openWriter();
+                         Writer resource = processingEnv.getFiler()
+                             .createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/sqlift-meta.txt").openWriter()) {
+                        source.write("package cl.playground.entities;\\n\\npublic final class User_ {\\n"
+                            + "    public static final Class<User> TYPE = User.class;\\n}\\n");
+                        resource.write("User");
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return false;
+                }
+            }
+            """);
+        assertEquals(0, ToolProvider.getSystemJavaCompiler()
+            .run(null, null, null, "-d", processorDir.toString(), processorSource.toString()));
+        Files.createDirectories(processorDir.resolve("META-INF/services"));
+        Files.writeString(processorDir.resolve("META-INF/services/javax.annotation.processing.Processor"), "MetaProcessor\n");
+
+        Map<String, String> sources = Map.of("User", "package cl.playground.entities;\n\npublic class User {\n}\n");
+        CompilationResult result = new EntityCompiler(processorDir.toString()).compile(PACKAGE, sources, Map.of("User", "users"));
+
+        assertTrue(result.isSuccess(), result.getErrorsByTable().toString());
+        assertEquals(List.of("cl.playground.entities.User", "cl.playground.entities.User_"),
+            List.copyOf(result.getClasses().keySet()));
+        assertFalse(Files.exists(Path.of("META-INF", "sqlift-meta.txt")));
+    }
+}
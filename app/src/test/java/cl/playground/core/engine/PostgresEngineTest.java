@@ -1,6 +1,9 @@
 package cl.playground.core.engine;
 
+import cl.playground.core.model.ColumnMetadata;
+import cl.playground.core.model.IndexMetadata;
 import cl.playground.core.model.RelationMetadata;
+import cl.playground.core.model.TableMetadata;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -653,4 +656,100 @@ class PostgresEngineTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    void testStatementsWithSemicolonsInsideLiterals() {
+        String schema = """
+            -- comentario con ; y CREATE TABLE fake (id INT);
+            CREATE OR REPLACE FUNCTION touch() RETURNS trigger AS $$
+            BEGIN
+                CREATE TABLE ignored (id INT);
+                RETURN NEW;
+            END;
+            $$ LANGUAGE plpgsql;
+
+            CREATE TABLE IF NOT EXISTS notes (
+                id SERIAL PRIMARY KEY, /* bloque ; con /* anidado */ */
+                body TEXT DEFAULT 'a;b',
+                "owner-id" INT REFERENCES users(id),
+                amount NUMERIC(10, 2) DEFAULT -1
+            );
+            """;
+
+        List<String> statements = engine.extractCreateTableStatements(schema);
+        assertEquals(1, statements.size(), "Solo debería existir la tabla notes");
+
+        String statement = statements.get(0);
+        assertEquals("notes", engine.extractTableName(statement));
+        assertEquals(List.of("id"), engine.extractPrimaryKeyColumns(statement));
+
+        List<String> columnDefinitions = engine.extractColumnDefinitions(statement);
+        assertEquals(4, columnDefinitions.size());
+        assertEquals("'a;b'", engine.extractDefaultValue(columnDefinitions.get(1)));
+        assertEquals("owner_id", engine.extractColumnName(columnDefinitions.get(2)));
+        assertEquals("NUMERIC(10, 2)", engine.extractColumnType(columnDefinitions.get(3)));
+        assertEquals("-1", engine.extractDefaultValue(columnDefinitions.get(3)));
+
+        List<RelationMetadata> relations = engine.extractTableRelations(statement);
+        assertEquals(1, relations.size());
+        assertEquals("owner-id", relations.get(0).getSourceColumn());
+        assertEquals("users", relations.get(0).getTargetTable());
+    }
+
+    @Test
+    void testIdentityColumns() {
+        TableMetadata table = engine.parseCreateTable("""
+            CREATE TABLE events (
+                id BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH 100) PRIMARY KEY,
+                seq INT GENERATED ALWAYS AS IDENTITY,
+                total NUMERIC GENERATED ALWAYS AS (1 + 1) STORED NOT NULL,
+                legacy_id BIGINT DEFAULT nextval('legacy_seq'::regclass)
+            );
+            """);
+
+        List<ColumnMetadata> columns = table.getColumns();
+        assertEquals("BY DEFAULT", columns.get(0).getIdentity());
+        assertNull(columns.get(0).getDefaultValue());
+        assertEquals(List.of("id"), table.getPrimaryKeys());
+        assertEquals("ALWAYS", columns.get(1).getIdentity());
+        assertFalse(columns.get(2).isIdentity());
+        assertTrue(columns.get(2).isNotNull());
+        assertEquals("nextval('legacy_seq'::regclass)", columns.get(3).getDefaultValue());
+    }
+
+    @Test
+    void testCreateIndexStatements() {
+        String schema = """
+            CREATE TABLE orders (id BIGINT PRIMARY KEY, customer_id BIGINT, status TEXT, created_at TIMESTAMP);
+            CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_orders_customer
+                ON ONLY public.orders USING btree (customer_id, created_at DESC NULLS LAST) INCLUDE (status);
+            CREATE INDEX ON orders (status) WHERE status <> 'closed';
+            CREATE INDEX idx_orders_lower ON orders (lower(status));
+            COMMENT ON TABLE orders IS 'CREATE INDEX x ON orders (id);';
+            """;
+
+        List<String> statements = engine.extractSchemaStatements(schema);
+        assertEquals(4, statements.size());
+        assertEquals(1, engine.extractCreateTableStatements(schema).size());
+        assertFalse(engine.isCreateIndex(statements.get(0)));
+
+        IndexMetadata unique = engine.parseCreateIndex(statements.get(1));
+        assertTrue(engine.isCreateIndex(statements.get(1)));
+        assertEquals("ux_orders_customer", unique.getIndexName());
+        assertEquals("public.orders", unique.getTableName());
+        assertEquals(List.of("customer_id", "created_at DESC"), unique.getColumns());
+        assertTrue(unique.isUnique());
+        assertNull(unique.getPredicate());
+
+        // Sin nombre: Postgres lo deriva de la tabla y las columnas
+        IndexMetadata partial = engine.parseCreateIndex(statements.get(2));
+        assertEquals("orders_status_idx", partial.getIndexName());
+        assertEquals("status <> 'closed'", partial.getPredicate());
+        assertFalse(partial.isUnique());
+
+        IndexMetadata expression = engine.parseCreateIndex(statements.get(3));
+        assertTrue(expression.hasExpressions());
+        assertEquals(List.of("lower(status)"), expression.getColumns());
+
+        assertNull(engine.parseCreateIndex(statements.get(0)));
+    }
+}
@@ -1,103 +1,31 @@
 package cl.playground.core.engine;
 
 import cl.playground.core.model.ColumnMetadata;
+import cl.playground.core.model.IndexMetadata;
 import cl.playground.core.model.RelationMetadata;
+import cl.playground.core.model.SchemaModel;
+import cl.playground.core.model.TableIndex;
 import cl.playground.core.model.TableMetadata;
+import cl.playground.fixture.SchemaFixtures;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 
 class SchemaProcessorTest {
 
     private SchemaProcessor schemaProcessor;
     private PostgresEngine postgresEngine;
 
-    private final String sqlContent = """
-        CREATE TABLE SUCURSALES (
-            id SERIAL,
-            nombre VARCHAR(100) NOT NULL,
-            direccion VARCHAR(200) NOT NULL,
-            telefono VARCHAR(20),
-            email VARCHAR(100),
-            activo BOOLEAN DEFAULT TRUE,
-            PRIMARY KEY (id)
-        );
-        CREATE TABLE CATEGORIAS (
-            id SERIAL,
-            nombre VARCHAR(50) NOT NULL,
-            descripcion TEXT,
-            stock_minimo INTEGER DEFAULT 10,
-            PRIMARY KEY (id)
-        );
-        CREATE TABLE PROVEEDORES (
-            id SERIAL,
-            nombre VARCHAR(100) NOT NULL,
-            rut VARCHAR(20) NOT NULL UNIQUE,
-            direccion VARCHAR(200),
-            telefono VARCHAR(20),
-            email VARCHAR(100),
-            activo BOOLEAN DEFAULT TRUE,
-            PRIMARY KEY (id)
-        );
-        CREATE TABLE PRODUCTOS (
-            id SERIAL,
-            codigo VARCHAR(50) NOT NULL UNIQUE,
-            nombre VARCHAR(100) NOT NULL,
-            descripcion TEXT,
-            precio_compra DECIMAL(10,2) NOT NULL,
-            precio_venta DECIMAL(10,2) NOT NULL,
-            categoria_id INTEGER NOT NULL,
-            proveedor_id INTEGER NOT NULL,
-            activo BOOLEAN DEFAULT TRUE,
-            PRIMARY KEY (id),
-            FOREIGN KEY (categoria_id) REFERENCES CATEGORIAS(id) ON DELETE RESTRICT,
-            FOREIGN KEY (proveedor_id) REFERENCES PROVEEDORES(id) ON DELETE RESTRICT
-        );
-        CREATE TABLE STOCK_SUCURSAL (
-            sucursal_id INTEGER NOT NULL,
-            producto_id INTEGER NOT NULL,
-            cantidad INTEGER NOT NULL DEFAULT 0,
-            ultima_actualizacion TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-            PRIMARY KEY (sucursal_id, producto_id),
-            FOREIGN KEY (sucursal_id) REFERENCES SUCURSALES(id) ON DELETE CASCADE,
-            FOREIGN KEY (producto_id) REFERENCES PRODUCTOS(id) ON DELETE RESTRICT
-        );
-        CREATE TABLE MOVIMIENTOS (
-            id SERIAL,
-            tipo_movimiento VARCHAR(20) NOT NULL,
-            sucursal_origen_id INTEGER NOT NULL,
-            sucursal_destino_id INTEGER NOT NULL,
-            producto_id INTEGER NOT NULL,
-            cantidad INTEGER NOT NULL,
-            fecha_movimiento TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-            observacion TEXT,
-            PRIMARY KEY (id),
-            FOREIGN KEY (sucursal_origen_id) REFERENCES SUCURSALES(id) ON DELETE RESTRICT,
-            FOREIGN KEY (sucursal_destino_id) REFERENCES SUCURSALES(id) ON DELETE RESTRICT,
-            FOREIGN KEY (producto_id) REFERENCES PRODUCTOS(id) ON DELETE RESTRICT
-        );
-        CREATE TABLE COMPRAS_PROVEEDOR (
-            id SERIAL,
-            proveedor_id INTEGER NOT NULL,
-            fecha_compra TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-            numero_factura VARCHAR(50),
-            total DECIMAL(10,2) NOT NULL,
-            PRIMARY KEY (id),
-            FOREIGN KEY (proveedor_id) REFERENCES PROVEEDORES(id) ON DELETE RESTRICT
-        );
-        CREATE TABLE DETALLE_COMPRA (
-            compra_id INTEGER NOT NULL,
-            producto_id INTEGER NOT NULL,
-            cantidad INTEGER NOT NULL,
-            precio_unitario DECIMAL(10,2) NOT NULL,
-            subtotal DECIMAL(10,2) NOT NULL,
-            PRIMARY KEY (compra_id, producto_id),
-            FOREIGN KEY (compra_id) REFERENCES COMPRAS_PROVEEDOR(id) ON DELETE CASCADE,
-            FOREIGN KEY (producto_id) REFERENCES PRODUCTOS(id) ON DELETE RESTRICT
-        );
-        """;
+    private final String sqlContent = SchemaFixtures.INVENTORY;
 
     private final String TEST_SCHEMA_IMPOSSIBLE_CASE = """
         -- impossible.sql
@@ -255,4 +183,51 @@ class SchemaProcessorTest {
             System.out.println("=================================\n");
         }
     }
+
+    @Test
+    void processSchemaInParallelMatchesSequential() {
+        List<TableMetadata> sequential = schemaProcessor.processSchema(sqlContent);
+        List<TableMetadata> parallel = new SchemaProcessor(postgresEngine, 4).processSchema(sqlContent);
+
+        assertEquals(sequential.toString(), parallel.toString());
+    }
+
+    @Test
+    void buildSchemaModelIndexesTablesAndColumns() {
+        SchemaModel model = schemaProcessor.buildSchemaModel(sqlContent);
+
+        assertEquals(schemaProcessor.processSchema(sqlContent).size(), model.size());
+        assertTrue(model.containsTable("stock_sucursal"));
+        assertFalse(model.containsTable("STOCK_SUCURSAL"));
+
+        TableMetadata stock = model.getTable("stock_sucursal");
+        TableIndex index = model.getIndex(stock);
+        assertSame(stock, index.getTable());
+        assertTrue(index.isForeignKey("sucursal_id"));
+        assertTrue(index.hasColumn("cantidad"));
+        assertNull(index.getColumn("no_existe"));
+    }
+
+    @Test
+    void buildSchemaModelAttachesCreateIndexStatements() {
+        String schema = """
+            CREATE INDEX idx_archived ON archived_orders (id);
+            CREATE TABLE Orders (Id BIGINT PRIMARY KEY, Customer_Id BIGINT, Created_At TIMESTAMP);
+            CREATE INDEX IDX_Orders_Customer ON ORDERS (Customer_Id, Created_At DESC);
+            """;
+
+        SchemaModel model = schemaProcessor.buildSchemaModel(schema);
+        List<IndexMetadata> indexes = model.getTable("orders").getIndexes();
+        assertEquals(1, indexes.size());
+        assertEquals("idx_orders_customer", indexes.get(0).getIndexName());
+        assertEquals("orders", indexes.get(0).getTableName());
+        assertEquals(List.of("customer_id", "created_at DESC"), indexes.get(0).getColumns());
+
+        assertEquals(model.getTables().toString(), new SchemaProcessor(postgresEngine, 4).processSchema(schema).toString());
+
+        // Un índice sobre una columna agregada con ALTER TABLE (que no se parsea) se descarta como el de archived_orders
+        SchemaModel altered = schemaProcessor.buildSchemaModel(schema
+            + "ALTER TABLE orders ADD COLUMN total NUMERIC;\nCREATE INDEX idx_orders_total ON orders (total);");
+        assertEquals(model.getTables().toString(), altered.getTables().toString());
+    }
 }
@@ -2,20 +2,35 @@ package cl.playground.core.generator;
 
 import cl.playground.core.engine.PostgresEngine;
 import cl.playground.core.engine.SchemaProcessor;
+import cl.playground.core.generator.mapping.CollectionRules;
+import cl.playground.core.generator.mapping.FetchPolicy;
+import cl.playground.core.generator.mapping.FetchRules;
+import cl.playground.core.generator.mapping.GeneratorOptions;
+import cl.playground.core.generator.mapping.IdGeneration;
+import cl.playground.core.generator.mapping.PersistableRules;
+import cl.playground.core.model.SchemaModel;
+import cl.playground.core.model.TableIndex;
 import cl.playground.core.model.TableMetadata;
+import cl.playground.fixture.SchemaFixtures;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.net.URL;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class EntityGeneratorTest {
 
+    private static final SchemaModel SALES = new SchemaProcessor(new PostgresEngine())
+        .buildSchemaModel(SchemaFixtures.SALES);
+
     @Test
     public void testEntityGeneration() throws IOException, URISyntaxException {
         // 1. Leer el schema SQL desde los recursos de prueba
@@ -144,4 +159,213 @@ class EntityGeneratorTest {
             System.out.println("\n=== Fin de la entidad ===\n");
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testStreamingMatchesStringOutput() throws IOException {
+        List<TableMetadata> tables = new SchemaProcessor(new PostgresEngine()).processSchema(SchemaFixtures.INVENTORY);
+        EntityGenerator entityGenerator = new EntityGenerator(false);
+        String packageOutput = "cl.playground.inventario.entities";
+
+        for (TableMetadata table : tables) {
+            StringWriter out = new StringWriter();
+            entityGenerator.generateEntity(table, new TableIndex(table), packageOutput, out);
+            assertEquals(entityGenerator.generateEntity(table, packageOutput), out.toString());
+        }
+    }
+
+    @Test
+    public void testCreateIndexBecomesIndexAnnotation() {
+        String schema = """
+            CREATE TABLE orders (
+                id BIGINT PRIMARY KEY,
+                code VARCHAR(20) UNIQUE,
+                customer_id BIGINT,
+                status TEXT,
+                created_at TIMESTAMP
+            );
+            CREATE UNIQUE INDEX ux_orders_customer ON orders (customer_id, created_at DESC);
+            CREATE UNIQUE INDEX ux_orders_open ON orders (customer_id) WHERE status = 'open';
+            CREATE INDEX idx_orders_lower_status ON orders (lower(status));
+            """;
+        TableMetadata orders = new SchemaProcessor(new PostgresEngine()).buildSchemaModel(schema).getTable("orders");
+        String entity = new EntityGenerator(false).generateEntity(orders, "com.example");
+
+        assertTrue(entity.contains("""
+                    @Index(
+                        name = "idx_orders_code",
+                        columnList = "code"
+                    ),
+                    @Index(
+                        name = "ux_orders_customer",
+                        columnList = "customer_id, created_at DESC",
+                        unique = true
+                    ),
+                    @Index(
+                        name = "ux_orders_open",
+                        columnList = "customer_id"
+                    )
+                })
+            """), entity);
+        // Los índices sobre expresiones no se pueden expresar con columnList
+        assertFalse(entity.contains("lower"), entity);
+    }
+
+    @Test
+    public void testFetchRulesAnnotateRelations() {
+        FetchRules rules = FetchRules.of(new FetchPolicy(true, 25, false),
+            Map.of("customers", new FetchPolicy(true, 0, true)));
+        GeneratorOptions options = GeneratorOptions.defaults().withFetchRules(rules);
+
+        String plain = generateSales(GeneratorOptions.defaults(), "orders");
+        assertTrue(plain.contains("    @ManyToOne\n"), plain);
+        assertFalse(plain.contains("FetchType"), plain);
+
+        String order = generateSales(options, "orders");
+        assertTrue(order.contains("import jakarta.persistence.FetchType;"), order);
+        assertTrue(order.contains("    @ManyToOne(fetch = FetchType.LAZY)\n"), order);
+        assertTrue(order.contains("    @BatchSize(size = 25)\n    private Set<OrderLines> orderLines"), order);
+
+        // customers reemplaza batchSize por subselect
+        String customer = generateSales(options, "customers");
+        assertTrue(customer.contains("    )\n    @Fetch(FetchMode.SUBSELECT)\n    private Set<Orders> orders"), customer);
+        assertTrue(customer.contains("import org.hibernate.annotations.FetchMode;"), customer);
+        assertFalse(customer.contains("BatchSize"), customer);
+    }
+
+    @Test
+    public void testCollectionRulesLimitInverseCollections() {
+        String all = generateSales(GeneratorOptions.defaults(), "customers");
+        assertTrue(all.contains("private Set<Orders> orders = new HashSet<>();"), all);
+        assertTrue(all.contains("private Set<Invoices> invoices = new HashSet<>();"), all);
+
+        String none = generateSales(collections(CollectionRules.Inverse.NONE, Set.of(), 0, false), "customers");
+        assertFalse(none.contains("Set<"), none);
+        assertFalse(none.contains("OneToMany"), none);
+        assertFalse(none.contains("import java.util.HashSet;"), none);
+
+        String allowed = generateSales(collections(CollectionRules.Inverse.ALLOWLIST, Set.of("customers.invoices"), 0, false),
+            "customers");
+        assertTrue(allowed.contains("private Set<Invoices> invoices"), allowed);
+        assertTrue(allowed.contains("public Set<Invoices> getInvoices()"), allowed);
+        assertFalse(allowed.contains("Orders"), allowed);
+
+        // El lado ManyToOne no cambia
+        assertEquals(generateSales(GeneratorOptions.defaults(), "invoices"),
+            generateSales(collections(CollectionRules.Inverse.NONE, Set.of(), 0, false), "invoices"));
+    }
+
+    @Test
+    public void testLazyInitCreatesCollectionInGetter() {
+        GeneratorOptions options = collections(CollectionRules.Inverse.ALL, Set.of(), 0, true);
+        String customer = generateSales(options, "customers");
+        assertTrue(customer.contains("    private Set<Orders> orders;\n"), customer);
+        assertTrue(customer.contains("""
+                public Set<Orders> getOrders() {
+                    if (orders == null) {
+                        orders = new HashSet<>();
+                    }
+                    return orders;
+                }
+            """), customer);
+
+        // Con Lombok solo se escribe el getter de las colecciones
+        String lombok = generateSales(options.withLombok(true), "customers");
+        assertTrue(lombok.contains("public Set<Invoices> getInvoices() {"), lombok);
+        assertFalse(lombok.contains("getName()"), lombok);
+    }
+
+    @Test
+    public void testSequenceIdGeneration() {
+        for (String table : new String[]{"orders", "events", "invoices"}) {
+            String entity = generateSales(GeneratorOptions.defaults(), table);
+            assertTrue(entity.contains("    @Id\n    @GeneratedValue(strategy = GenerationType.IDENTITY)\n"), entity);
+            assertFalse(entity.contains("SequenceGenerator"), entity);
+        }
+
+        GeneratorOptions options = GeneratorOptions.defaults().withIdGeneration(IdGeneration.sequence(50));
+        String order = generateSales(options, "orders");
+        assertTrue(order.contains("import jakarta.persistence.SequenceGenerator;"), order);
+        assertTrue(order.contains("""
+                @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_id_seq")
+                @SequenceGenerator(name = "orders_id_seq", sequenceName = "orders_id_seq", allocationSize = 50)
+            """), order);
+
+        String invoice = generateSales(options, "invoices");
+        assertTrue(invoice.contains("sequenceName = \"billing.invoice_seq\""), invoice);
+
+        // GENERATED ALWAYS no acepta ids explícitos
+        String event = generateSales(options, "events");
+        assertTrue(event.contains("GenerationType.IDENTITY"), event);
+        assertFalse(event.contains("SequenceGenerator"), event);
+    }
+
+    @Test
+    public void testPersistableForAssignedKeys() {
+        GeneratorOptions options = GeneratorOptions.defaults().withPersistableRules(PersistableRules.of(true));
+
+        String country = generateSales(options, "countries");
+        assertTrue(country.contains("import org.springframework.data.domain.Persistable;"), country);
+        assertTrue(country.contains("public class Countries implements Persistable<String> {"), country);
+        assertTrue(country.contains("    @Transient\n    private boolean isNew = true;\n"), country);
+        assertTrue(country.contains("    public Countries(String code, String name) {\n"), country);
+        // El campo del id es code: getId() se agrega para Persistable
+        assertTrue(country.contains("""
+                @Override
+                public String getId() {
+                    return code;
+                }
+
+                @Override
+                public boolean isNew() {
+                    return isNew;
+                }
+
+                @PostLoad
+                @PostPersist
+                void markNotNew() {
+                    this.isNew = false;
+                }
+            """), country);
+
+        // Con un campo id basta el getter existente
+        String product = generateSales(options, "products");
+        assertTrue(product.contains("public class Products implements Persistable<Long> {"), product);
+        assertEquals(1, product.split("getId\\(\\)", -1).length - 1, product);
+
+        // Una clave generada ya distingue las entidades nuevas
+        assertEquals(generateSales(GeneratorOptions.defaults(), "orders"), generateSales(options, "orders"));
+    }
+
+    @Test
+    public void testPersistableWithLombokKeepsFlagOutOfConstructor() {
+        GeneratorOptions options = GeneratorOptions.defaults().withLombok(true)
+            .withPersistableRules(PersistableRules.of(true));
+
+        String line = generateSales(options, "order_lines");
+        assertTrue(line.contains("public class OrderLines implements Persistable<OrderLines.OrderLinesId> {"), line);
+        assertTrue(line.contains("public boolean isNew() {"), line);
+        // Lombok genera getId() para el @EmbeddedId
+        assertFalse(line.contains("getId()"), line);
+        // El constructor con todos los campos y los setters dejan fuera el flag
+        assertTrue(line.contains("@NoArgsConstructor\n@Table(name = \"order_lines\")\n"), line);
+        assertTrue(line.contains("    @Transient\n    @Setter(AccessLevel.NONE)\n    private boolean isNew = true;\n"), line);
+        assertTrue(line.contains("import lombok.AccessLevel;"), line);
+        assertTrue(line.contains("    public OrderLines(OrderLinesId id, Integer quantity, Orders orderId, Products productId) {\n"),
+            line);
+        assertFalse(line.contains("public OrderLines() {}"), line);
+
+        String country = generateSales(options, "countries");
+        assertFalse(country.contains("AllArgsConstructor"), country);
+        assertTrue(country.contains("    public Countries(String code, String name) {\n"), country);
+    }
+
+    private static String generateSales(GeneratorOptions options, String table) {
+        return new EntityGenerator(options).generateEntity(SALES.getTable(table), "com.example");
+    }
+
+    private static GeneratorOptions collections(CollectionRules.Inverse inverse, Set<String> allowed, int maxPerTable,
+                                                boolean lazyInit) {
+        return GeneratorOptions.defaults()
+            .withCollectionRules(CollectionRules.of(inverse, allowed, maxPerTable, lazyInit));
+    }
+}
@@ -0,0 +1,54 @@
+package cl.playground.core.generator;
+
+import cl.playground.core.engine.PostgresEngine;
+import cl.playground.core.engine.SchemaProcessor;
+import cl.playground.core.generator.factory.UtilsFactory;
+import cl.playground.core.model.TableMetadata;
+import cl.playground.core.writer.EntityWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityPipelineTest {
+
+    @Test
+    void testParallelPipelineWritesSameEntitiesAsSequential() throws IOException, URISyntaxException {
+        URL resourceUrl = getClass().getClassLoader().getResource("schema2.sql");
+        assertNotNull(resourceUrl);
+        String sqlContent = Files.readString(Path.of(resourceUrl.toURI()));
+
+        List<TableMetadata> tables = new SchemaProcessor(new PostgresEngine()).processSchema(sqlContent);
+        EntityGenerator generator = new EntityGenerator(false);
+        String packageName = "cl.playground.entities";
+
+        Map<String, String> written = new ConcurrentHashMap<>();
+        EntityWriter writer = new EntityWriter() {
+            @Override
+            public void write(String className, String content) {
+                assertNull(written.put(className, content), "Entidad escrita dos veces: " + className);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        EntityPipeline.Result result = new EntityPipeline(generator, 4).run(tables, packageName, writer);
+
+        assertEquals(tables.size(), result.getEntities());
+        assertEquals(tables.size(), written.size());
+        for (TableMetadata table : tables) {
+            String className = UtilsFactory.generateClassName(table.getTableName());
+            assertEquals(generator.generateEntity(table, packageName), written.get(className));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package cl.playground.core.generator.factory;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UtilsFactoryTest {
+
+    @Test
+    void testGenerateClassNameSanitizesAndJoinsWords() {
+        assertEquals("OrderLineItems", UtilsFactory.generateClassName("ORDER_LINE_ITEMS"));
+        assertEquals("SalesQ1Report", UtilsFactory.generateClassName("sales-q1__report"));
+        assertEquals("Users", UtilsFactory.generateClassName("_users_"));
+    }
+
+    @Test
+    void testGenerateFieldNameHandlesIdSuffix() {
+        assertEquals("id", UtilsFactory.generateFieldName("ID"));
+        assertEquals("userId", UtilsFactory.generateFieldName("user_id"));
+        assertEquals("sucursalOrigenId", UtilsFactory.generateFieldName("sucursal_origen_id"));
+        assertEquals("createdAt", UtilsFactory.generateFieldName("created__at_"));
+        assertEquals("Id", UtilsFactory.generateFieldName("_id"));
+        assertEquals("", UtilsFactory.generateFieldName("___"));
+    }
+
+    @Test
+    void testToCamelCase() {
+        assertEquals("orderItems", UtilsFactory.toCamelCase("order_items"));
+        assertEquals("userId", UtilsFactory.toCamelCase("userId"));
+    }
+}
@@ -0,0 +1,51 @@
+package cl.playground.core.generator.mapping;
+
+import cl.playground.core.engine.PostgresEngine;
+import cl.playground.core.engine.SchemaProcessor;
+import cl.playground.core.generator.naming.NamingService;
+import cl.playground.core.model.RelationMetadata;
+import cl.playground.core.model.SchemaModel;
+import cl.playground.core.model.TableMetadata;
+import cl.playground.fixture.SchemaFixtures;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollectionRulesTest {
+
+    private final SchemaModel model = new SchemaProcessor(new PostgresEngine()).buildSchemaModel(SchemaFixtures.SALES);
+    private final NamingService naming = new NamingService();
+
+    @Test
+    void testAllowListIsNormalized() {
+        CollectionRules rules = CollectionRules.of(CollectionRules.Inverse.ALLOWLIST, Set.of(" Customers.Invoices "), 0, false);
+
+        assertEquals(List.of("invoices"), targets(rules, model.getTable("customers")));
+        assertTrue(rules.hasInverse(model.getTable("customers")));
+        // orders también tiene una colección inversa, pero no está en la lista
+        assertFalse(rules.hasInverse(model.getTable("orders")));
+    }
+
+    @Test
+    void testMaxPerTableKeepsSchemaOrder() {
+        TableMetadata customers = model.getTable("customers");
+
+        assertEquals(List.of("orders", "invoices"), targets(CollectionRules.defaults(), customers));
+        assertEquals(List.of("orders"), targets(CollectionRules.of(CollectionRules.Inverse.ALL, Set.of(), 1, false), customers));
+        assertTrue(targets(CollectionRules.of(CollectionRules.Inverse.NONE, Set.of(), 0, false), customers).isEmpty());
+        assertThrows(IllegalArgumentException.class,
+            () -> CollectionRules.of(CollectionRules.Inverse.ALL, Set.of(), -1, false));
+    }
+
+    // Tablas referenciadoras seleccionadas, en el orden de table.getRelations()
+    private List<String> targets(CollectionRules rules, TableMetadata table) {
+        Set<RelationMetadata> selected = rules.selectInverse(table, naming);
+        return table.getRelations().stream()
+            .filter(selected::contains)
+            .map(relation -> relation.getTargetTable().toLowerCase())
+            .toList();
+    }
+}
@@ -0,0 +1,23 @@
+package cl.playground.core.generator.mapping;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FetchRulesTest {
+
+    @Test
+    void testTableOverridesIgnoreCase() {
+        FetchPolicy defaults = new FetchPolicy(true, 25, false);
+        FetchPolicy customers = new FetchPolicy(true, 0, true);
+        FetchRules rules = FetchRules.of(defaults, Map.of("CUSTOMERS", customers));
+
+        assertSame(customers, rules.forTable("customers"));
+        assertSame(customers, rules.forTable("Customers"));
+        // Las tablas sin reemplazo usan la estrategia general
+        assertSame(defaults, rules.forTable("orders"));
+        assertEquals(25, rules.forTable("orders").getBatchSize());
+    }
+}
@@ -0,0 +1,44 @@
+package cl.playground.core.generator.mapping;
+
+import cl.playground.core.engine.PostgresEngine;
+import cl.playground.core.engine.SchemaProcessor;
+import cl.playground.core.model.ColumnMetadata;
+import cl.playground.core.model.SchemaModel;
+import cl.playground.core.model.TableMetadata;
+import cl.playground.fixture.SchemaFixtures;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdGenerationTest {
+
+    private final SchemaModel model = new SchemaProcessor(new PostgresEngine()).buildSchemaModel(SchemaFixtures.SALES);
+
+    @Test
+    void testGeneratedKeys() {
+        assertTrue(IdGeneration.isGenerated(id("orders")));
+        assertTrue(IdGeneration.isGenerated(id("events")));
+        assertTrue(IdGeneration.isGenerated(id("invoices")));
+        assertFalse(IdGeneration.isGenerated(id("products")));
+    }
+
+    @Test
+    void testSequenceNamesAndStrategy() {
+        IdGeneration sequence = IdGeneration.sequence(50);
+
+        // La secuencia implícita de SERIAL o la declarada en nextval(...)
+        assertEquals("orders_id_seq", IdGeneration.sequenceName(model.getTable("orders"), id("orders")));
+        assertEquals("billing.invoice_seq", IdGeneration.sequenceName(model.getTable("invoices"), id("invoices")));
+
+        assertEquals(IdGeneration.Strategy.SEQUENCE, sequence.strategyFor(id("orders")));
+        // GENERATED ALWAYS no acepta ids explícitos
+        assertEquals(IdGeneration.Strategy.IDENTITY, sequence.strategyFor(id("events")));
+        assertEquals(IdGeneration.Strategy.IDENTITY, IdGeneration.defaults().strategyFor(id("orders")));
+        assertThrows(IllegalArgumentException.class, () -> IdGeneration.sequence(0));
+    }
+
+    private ColumnMetadata id(String tableName) {
+        TableMetadata table = model.getTable(tableName);
+        return model.getIndex(table).getColumn("id");
+    }
+}
@@ -0,0 +1,48 @@
+package cl.playground.core.generator.mapping;
+
+import cl.playground.core.engine.PostgresEngine;
+import cl.playground.core.engine.SchemaProcessor;
+import cl.playground.core.generator.naming.NamingService;
+import cl.playground.core.model.SchemaModel;
+import cl.playground.core.model.TableMetadata;
+import cl.playground.fixture.SchemaFixtures;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistableRulesTest {
+
+    private final SchemaModel model = new SchemaProcessor(new PostgresEngine()).buildSchemaModel(SchemaFixtures.SALES);
+    private final NamingService naming = new NamingService();
+    private final PersistableRules rules = PersistableRules.of(true);
+
+    @Test
+    void testAppliesToAssignedAndCompositeKeys() {
+        for (String table : new String[]{"customers", "countries", "products", "order_lines"}) {
+            assertTrue(applies(table), table);
+        }
+        // SERIAL, nextval e IDENTITY
+        for (String table : new String[]{"orders", "invoices", "events"}) {
+            assertFalse(applies(table), table);
+        }
+        TableMetadata countries = model.getTable("countries");
+        assertFalse(PersistableRules.defaults().appliesTo(countries, model.getIndex(countries)));
+    }
+
+    @Test
+    void testIdTypeAndField() {
+        TableMetadata countries = model.getTable("countries");
+        assertEquals("String", rules.idType(countries, model.getIndex(countries), naming));
+        assertEquals("code", rules.idField(countries, naming));
+
+        // La clase de la clave compuesta se califica con la entidad
+        TableMetadata lines = model.getTable("order_lines");
+        assertEquals("OrderLines.OrderLinesId", rules.idType(lines, model.getIndex(lines), naming));
+        assertEquals("id", rules.idField(lines, naming));
+    }
+
+    private boolean applies(String tableName) {
+        TableMetadata table = model.getTable(tableName);
+        return rules.appliesTo(table, model.getIndex(table));
+    }
+}
@@ -0,0 +1,61 @@
+package cl.playground.core.generator.naming;
+
+import cl.playground.core.generator.EntityGenerator;
+import cl.playground.core.generator.mapping.GeneratorOptions;
+import cl.playground.core.model.ColumnMetadata;
+import cl.playground.core.model.TableMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NamingServiceTest {
+
+    @Test
+    void testMemoizesNamesUpToCapacity() {
+        NamingService naming = new NamingService(PluralRules.defaults(), 1);
+
+        String className = naming.className("order_items");
+        assertEquals("OrderItems", className);
+        assertSame(className, naming.className("order_items"));
+
+        // Con la caché llena los nombres se siguen calculando, pero no se guardan
+        assertEquals("Customers", naming.className("customers"));
+        assertNotSame(naming.className("customers"), naming.className("customers"));
+        assertEquals("sucursalOrigenId", naming.fieldName("sucursal_origen_id"));
+    }
+
+    @Test
+    void testConfiguredPluralsExtendDefaults() {
+        PluralRules rules = PluralRules.withIrregulars(Map.of("Status", "statuses", "person", "persons"));
+        NamingService naming = new NamingService(rules);
+
+        assertEquals("statuses", naming.plural("status"));
+        assertEquals("persons", naming.plural("person"));
+        assertEquals("children", naming.plural("child"));
+        assertEquals("sucursales", naming.plural("sucursal"));
+        assertEquals("", PluralRules.defaults().getCacheKey());
+        assertNotEquals("", rules.getCacheKey());
+        assertSame(PluralRules.defaults(), PluralRules.withIrregulars(Map.of()));
+    }
+
+    @Test
+    void testGeneratorUsesConfiguredPlurals() {
+        TableMetadata criterion = new TableMetadata();
+        criterion.setTableName("criterion");
+        criterion.setColumns(List.of(new ColumnMetadata("id", "BIGINT")));
+        criterion.setPrimaryKeys(List.of("id"));
+        criterion.setRelations(new ArrayList<>());
+
+        NamingService naming = new NamingService(PluralRules.withIrregulars(Map.of("criterion", "criteria")));
+        EntityGenerator generator = new EntityGenerator(GeneratorOptions.defaults().withNaming(naming));
+        String entity = generator.generateEntity(criterion, "cl.playground.naming");
+
+        assertTrue(entity.contains("@Table(name = \"criteria\")"), entity);
+        assertTrue(generator.getCacheKey().contains("criteria"));
+        assertNotEquals(new EntityGenerator(false).getCacheKey(), generator.getCacheKey());
+    }
+}
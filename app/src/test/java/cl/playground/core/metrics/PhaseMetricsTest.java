@@ -0,0 +1,63 @@
+package cl.playground.core.metrics;
+
+import cl.playground.core.engine.PostgresEngine;
+import cl.playground.core.engine.SchemaProcessor;
+import cl.playground.core.model.SchemaModel;
+import cl.playground.fixture.SchemaFixtures;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhaseMetricsTest {
+
+    @Test
+    void testRecordsSchemaPhasesPerTable() {
+        PhaseMetrics metrics = new PhaseMetrics();
+        SchemaModel model = new SchemaProcessor(new PostgresEngine(), 2, null, metrics)
+            .buildSchemaModel(SchemaFixtures.INVENTORY);
+
+        assertEquals(model.size(), metrics.getCount(Phase.STATEMENTS));
+        assertEquals(model.size(), metrics.getCount(Phase.PARSE));
+        assertEquals(model.size(), metrics.getCount(Phase.VALIDATION));
+        assertTrue(metrics.getNanos(Phase.PARSE) > 0);
+        assertFalse(metrics.isRecorded(Phase.GENERATE));
+        if (PhaseMetrics.isAllocationTracked()) {
+            assertTrue(metrics.getAllocatedBytes(Phase.PARSE) > 0);
+        }
+
+        String json = metrics.toJson();
+        assertTrue(json.contains("{\"name\": \"parse\", \"count\": " + model.size() + ", "), json);
+        assertFalse(json.contains("\"generate\""), json);
+    }
+
+    @Test
+    void testNestedSampleIsSubtracted() {
+        PhaseMetrics metrics = new PhaseMetrics();
+        PhaseMetrics.Sample outer = metrics.start();
+        PhaseMetrics.Sample inner = metrics.start();
+        inner.restart();
+        busyWork();
+        metrics.stop(Phase.GENERATE, inner);
+        metrics.stop(Phase.WRITE, outer, 1, inner);
+
+        assertEquals(1, metrics.getCount(Phase.WRITE));
+        assertTrue(metrics.getNanos(Phase.WRITE) < metrics.getNanos(Phase.GENERATE));
+    }
+
+    @Test
+    void testNoneRecordsNothing() {
+        PhaseMetrics.Sample sample = PhaseMetrics.NONE.start();
+        sample.restart();
+        PhaseMetrics.NONE.stop(Phase.PARSE, sample, 3);
+
+        assertFalse(PhaseMetrics.NONE.isEnabled());
+        assertEquals(0, PhaseMetrics.NONE.getCount(Phase.PARSE));
+    }
+
+    private static void busyWork() {
+        long deadline = System.nanoTime() + 5_000_000;
+        while (System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package cl.playground.core.reader;
+
+import cl.playground.core.engine.PostgresEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSkipsCopyDataAndNonTableStatements() throws IOException {
+        String dump = """
+            SET client_encoding = 'UTF8';
+            CREATE FUNCTION touch() RETURNS trigger AS $body$
+            BEGIN
+                CREATE TABLE ignored (id INT);
+            END;
+            $body$ LANGUAGE plpgsql;
+
+            CREATE TABLE public.users (
+                id BIGINT NOT NULL,
+                name VARCHAR(100) DEFAULT 'a;b'
+            );
+
+            COPY public.users (id, name) FROM stdin;
+            1\tCREATE TABLE fake (id INT);
+            2\t'unterminated
+            \\.
+
+            -- CREATE TABLE commented (id INT);
+            CREATE TABLE posts (
+                id BIGINT PRIMARY KEY,
+                user_id BIGINT REFERENCES users(id)
+            );
+            """;
+        Path file = tempDir.resolve("dump.sql");
+        Files.writeString(file, dump);
+
+        List<String> statements = readAll(file.toString());
+
+        assertEquals(2, statements.size());
+        assertTrue(statements.get(0).startsWith("CREATE TABLE public.users ("));
+        assertTrue(statements.get(0).endsWith(");"));
+        assertTrue(statements.get(1).startsWith("CREATE TABLE posts ("));
+    }
+
+    @Test
+    void testMatchesInMemoryExtraction() throws IOException, URISyntaxException {
+        URL resourceUrl = getClass().getClassLoader().getResource("impossible.sql");
+        assertNotNull(resourceUrl);
+        Path file = Path.of(resourceUrl.toURI());
+
+        List<String> expected = new PostgresEngine().extractCreateTableStatements(Files.readString(file));
+        assertEquals(expected, readAll(file.toString()));
+    }
+
+    @Test
+    void testSchemaStatementsIncludeIndexes() throws IOException {
+        String schema = """
+            CREATE TABLE users (id BIGINT PRIMARY KEY, email TEXT);
+            CREATE UNIQUE INDEX ux_users_email ON users (email);
+            ALTER TABLE users ADD COLUMN name TEXT;
+            CREATE INDEX ON users (name);
+            """;
+        Path file = tempDir.resolve("schema.sql");
+        Files.writeString(file, schema);
+
+        List<String> statements = new ArrayList<>();
+        try (SqlStatementReader reader = SqlReader.readSchemaStatements(file.toString())) {
+            reader.forEach(statements::add);
+        }
+        assertEquals(new PostgresEngine().extractSchemaStatements(schema), statements);
+        assertEquals(3, statements.size());
+        assertEquals(1, readAll(file.toString()).size());
+    }
+
+    private List<String> readAll(String filePath) {
+        List<String> statements = new ArrayList<>();
+        try (SqlStatementReader reader = SqlReader.readCreateTableStatements(filePath)) {
+            reader.forEach(statements::add);
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,68 @@
+package cl.playground.core.types;
+
+import cl.playground.core.engine.PostgresEngine;
+import cl.playground.core.engine.SchemaProcessor;
+import cl.playground.core.model.ColumnMetadata;
+import cl.playground.core.model.TableMetadata;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnTypeTest {
+
+    @Test
+    void testResolvesPrecisionScaleAndArrays() {
+        ColumnType numeric = ColumnType.resolve("NUMERIC(10, 2)");
+        assertEquals("NUMERIC", numeric.getBaseType());
+        assertEquals(Integer.valueOf(10), numeric.getPrecision());
+        assertEquals(Integer.valueOf(2), numeric.getScale());
+        assertEquals("Double", numeric.getJavaType());
+        assertNull(numeric.getLength());
+
+        ColumnType array = ColumnType.resolve("VARCHAR(20)[][]");
+        assertEquals(2, array.getArrayDimensions());
+        assertEquals(PostgreSQLToJavaType.VARCHAR, array.getPostgresType());
+        assertEquals("Object", array.getJavaType());
+
+        ColumnType timestamp = ColumnType.resolve("TIMESTAMP(3)  WITH TIME ZONE");
+        assertEquals("TIMESTAMP WITH TIME ZONE", timestamp.getBaseType());
+        assertEquals(Integer.valueOf(3), timestamp.getPrecision());
+        assertEquals("import java.time.LocalDateTime;", timestamp.getImportStatement());
+    }
+
+    @Test
+    void testResolvesAliasesWithoutExceptions() {
+        assertEquals("Integer", ColumnType.resolve("int4").getJavaType());
+        assertEquals("Long", ColumnType.resolve("INT8").getJavaType());
+        assertEquals("Double", ColumnType.resolve("float8").getJavaType());
+        assertEquals("Double", ColumnType.resolve("DOUBLE PRECISION").getJavaType());
+        assertEquals(Integer.valueOf(40), ColumnType.resolve("CHARACTER VARYING(40)").getLength());
+        assertTrue(ColumnType.resolve("serial8").isSerial());
+        assertEquals("Object", ColumnType.resolve("JSONB").getJavaType());
+        assertEquals("Object", ColumnType.resolve("public.custom_type").getJavaType());
+        assertNull(ColumnType.resolve("INET").getPostgresType());
+        assertEquals("Object", ColumnType.resolve(null).getJavaType());
+    }
+
+    @Test
+    void testSchemaProcessorResolvesMultiWordTypesOnce() {
+        TableMetadata table = new SchemaProcessor(new PostgresEngine()).processSchema("""
+            CREATE TABLE readings (
+                id BIGSERIAL PRIMARY KEY,
+                value double precision NOT NULL,
+                label CHARACTER VARYING(40),
+                taken_at TIMESTAMP WITH TIME ZONE DEFAULT now(),
+                samples INTEGER[][]
+            );
+            """).get(0);
+
+        ColumnMetadata value = table.getColumns().get(1);
+        assertEquals("DOUBLE PRECISION", value.getColumnType());
+        assertEquals("Double", value.getResolvedType().getJavaType());
+        assertSame(value.getResolvedType(), value.getResolvedType());
+        assertEquals("CHARACTER VARYING(40)", table.getColumns().get(2).getColumnType());
+        assertEquals("TIMESTAMP WITH TIME ZONE", table.getColumns().get(3).getColumnType());
+        assertEquals("now()", table.getColumns().get(3).getDefaultValue());
+        assertEquals(2, table.getColumns().get(4).getResolvedType().getArrayDimensions());
+    }
+}
@@ -0,0 +1,111 @@
+package cl.playground.core.writer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityArchiveWriterTest {
+
+    private static final String PACKAGE = "cl.playground.entities";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testWritesJarAndKeepsUnchangedArchive() throws IOException {
+        Path archive = tempDir.resolve("build/entities.jar");
+
+        try (EntityArchiveWriter first = new EntityArchiveWriter(archive, PACKAGE)) {
+            first.write("Users", "class Users {}");
+            first.write("Posts", "class Posts {}");
+            first.finish();
+            assertFalse(first.isUnchanged());
+            assertEquals(2, first.getEntities());
+        }
+
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            assertEquals("META-INF/MANIFEST.MF", zip.entries().nextElement().getName());
+            assertEquals("class Users {}", new String(
+                zip.getInputStream(zip.getEntry("cl/playground/entities/Users.java")).readAllBytes(), StandardCharsets.UTF_8));
+            assertNotNull(zip.getEntry("cl/playground/entities/Posts.java"));
+        }
+
+        FileTime modified = FileTime.fromMillis(1_000_000L);
+        Files.setLastModifiedTime(archive, modified);
+
+        // Mismo contenido en otro orden: el archivo existente se conserva
+        try (EntityArchiveWriter second = new EntityArchiveWriter(archive, PACKAGE)) {
+            second.write("Posts", "class Posts {}");
+            second.write("Users", "class Users {}");
+            second.finish();
+            assertTrue(second.isUnchanged());
+        }
+        assertEquals(modified, Files.getLastModifiedTime(archive));
+
+        // Un cambio de contenido reemplaza el archivo completo
+        try (EntityArchiveWriter third = new EntityArchiveWriter(archive, PACKAGE)) {
+            third.write("Users", "class Users { Long id; }");
+            third.finish();
+            assertFalse(third.isUnchanged());
+        }
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            assertNull(zip.getEntry("cl/playground/entities/Posts.java"));
+        }
+    }
+
+    @Test
+    void testEntriesAreSortedRegardlessOfWriteOrder() throws IOException {
+        // Con varios hilos el pipeline entrega las entidades en el orden en que terminan
+        Path first = tempDir.resolve("first.zip");
+        try (EntityArchiveWriter writer = new EntityArchiveWriter(first, PACKAGE)) {
+            writer.write("Users", "class Users {}");
+            writer.write("Posts", "class Posts {}");
+            writer.write("Tags", "class Tags {}");
+            writer.finish();
+        }
+        Path second = tempDir.resolve("second.zip");
+        try (EntityArchiveWriter writer = new EntityArchiveWriter(second, PACKAGE)) {
+            writer.write("Tags", "class Tags {}");
+            writer.write("Users", "class Users {}");
+            writer.write("Posts", "class Posts {}");
+            writer.finish();
+        }
+
+        assertArrayEquals(Files.readAllBytes(first), Files.readAllBytes(second));
+        try (ZipFile zip = new ZipFile(first.toFile())) {
+            assertEquals(List.of("cl/playground/entities/Posts.java", "cl/playground/entities/Tags.java",
+                "cl/playground/entities/Users.java"), zip.stream().map(ZipEntry::getName).toList());
+        }
+    }
+
+    @Test
+    void testFailedGenerationKeepsPreviousArchive() throws IOException {
+        Path archive = tempDir.resolve("entities.zip");
+        try (EntityArchiveWriter first = new EntityArchiveWriter(archive, PACKAGE)) {
+            first.write("Users", "class Users {}");
+            first.finish();
+        }
+        byte[] previous = Files.readAllBytes(archive);
+
+        // Sin finish (como cuando el pipeline falla) no se toca el archivo ni quedan temporales
+        try (EntityArchiveWriter failed = new EntityArchiveWriter(archive, PACKAGE)) {
+            failed.write("Tags", "class Tags {}");
+        }
+
+        assertArrayEquals(previous, Files.readAllBytes(archive));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of("entities.zip"), files.map(file -> file.getFileName().toString()).toList());
+        }
+    }
+}
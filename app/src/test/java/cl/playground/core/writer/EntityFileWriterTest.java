@@ -0,0 +1,92 @@
+package cl.playground.core.writer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityFileWriterTest {
+
+    private static final String PACKAGE = "cl.playground.entities";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSkipsUnchangedAndDeletesStaleEntities() throws IOException {
+        Path sourceRoot = tempDir.resolve("src");
+        Path manifest = tempDir.resolve(".sqlift/manifest");
+
+        EntityFileWriter first = new EntityFileWriter(sourceRoot, PACKAGE, manifest);
+        first.write("Users", "class Users {}");
+        first.write("Posts", "class Posts {}");
+        first.finish();
+        assertEquals(2, first.getWritten());
+
+        Path users = first.getDirectory().resolve("Users.java");
+        Path posts = first.getDirectory().resolve("Posts.java");
+        FileTime usersModified = FileTime.fromMillis(1_000_000L);
+        Files.setLastModifiedTime(users, usersModified);
+
+        // Segunda ejecución: Users sin cambios, Posts eliminada, Tags nueva
+        EntityFileWriter second = new EntityFileWriter(sourceRoot, PACKAGE, manifest);
+        second.write("Users", "class Users {}");
+        second.write("Tags", "class Tags {}");
+        second.finish();
+
+        assertEquals(1, second.getWritten());
+        assertEquals(1, second.getUnchanged());
+        assertEquals(1, second.getDeleted());
+        assertEquals(usersModified, Files.getLastModifiedTime(users));
+        assertFalse(Files.exists(posts));
+
+        // Un cambio de contenido siempre se escribe
+        EntityFileWriter third = new EntityFileWriter(sourceRoot, PACKAGE, manifest);
+        third.write("Users", "class Users { Long id; }");
+        third.write("Tags", "class Tags {}");
+        third.finish();
+
+        assertEquals(1, third.getWritten());
+        assertEquals(1, third.getUnchanged());
+        assertEquals("class Users { Long id; }", Files.readString(users));
+    }
+
+    @Test
+    void testStreamingWriteDetectsUnchangedAndDiscardsFailedEntities() throws IOException {
+        Path sourceRoot = tempDir.resolve("src");
+        Path manifest = tempDir.resolve(".sqlift/manifest");
+
+        EntityFileWriter first = new EntityFileWriter(sourceRoot, PACKAGE, manifest);
+        first.write("Users", out -> out.append("class ").append("Users {}"));
+        first.finish();
+        assertEquals(1, first.getWritten());
+
+        Path users = first.getDirectory().resolve("Users.java");
+        assertEquals("class Users {}", Files.readString(users));
+        FileTime usersModified = FileTime.fromMillis(1_000_000L);
+        Files.setLastModifiedTime(users, usersModified);
+
+        // El mismo contenido en streaming no reescribe el archivo; una entidad que falla no deja restos
+        EntityFileWriter second = new EntityFileWriter(sourceRoot, PACKAGE, manifest);
+        second.write("Users", out -> out.append("class Users {}"));
+        assertThrows(IOException.class, () -> second.write("Posts", out -> {
+            out.append("class Posts {");
+            throw new IOException("fallo simulado");
+        }));
+        second.finish();
+
+        assertEquals(0, second.getWritten());
+        assertEquals(1, second.getUnchanged());
+        assertEquals(usersModified, Files.getLastModifiedTime(users));
+        try (Stream<Path> files = Files.list(second.getDirectory())) {
+            assertEquals(List.of("Users.java"), files.map(file -> file.getFileName().toString()).toList());
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package cl.playground.fixture;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+// Genera DDL PostgreSQL sintético y determinista (misma semilla y parámetros => mismo esquema)
+// para pruebas de carga y benchmarks. Ejercita las construcciones que entienden PostgresEngine
+// y SchemaProcessor: claves primarias simples y compuestas, cadenas de claves foráneas (en línea
+// y como CONSTRAINT), autorreferencias, tablas anchas, defaults, comentarios y sentencias que no
+// son CREATE TABLE.
+public class SyntheticSchemaGenerator {
+
+    private static final String[] WORDS = {
+        "customer", "order", "product", "invoice", "branch", "employee", "supplier", "category",
+        "payment", "shipment", "account", "region", "contract", "ticket", "warehouse", "campaign"
+    };
+
+    private static final String[] COLUMN_WORDS = {
+        "name", "code", "description", "status", "amount", "quantity", "price", "email", "phone",
+        "address", "notes", "created_at", "updated_at", "active", "score", "reference", "token", "payload"
+    };
+
+    private static final String[] TYPES = {
+        "VARCHAR(%d)", "TEXT", "INTEGER", "INT", "BIGINT", "SMALLINT", "NUMERIC(12, 2)", "DECIMAL(8, 3)",
+        "REAL", "DOUBLE PRECISION", "BOOLEAN", "DATE", "TIME", "TIMESTAMP", "TIMESTAMP WITH TIME ZONE",
+        "UUID", "BYTEA", "CHAR(%d)", "TEXT[]"
+    };
+
+    private final long seed;
+    private int tables = 100;
+    private int minColumns = 3;
+    private int maxColumns = 12;
+    private int maxForeignKeys = 3;
+    private int wideTableColumns = 200;
+    private double wideTableRatio = 0.02;
+    private double compositeKeyRatio = 0.1;
+    private double selfReferenceRatio = 0.05;
+    private double commentRatio = 0.3;
+
+    public SyntheticSchemaGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public SyntheticSchemaGenerator(long seed, int tables) {
+        this.seed = seed;
+        this.tables = tables;
+    }
+
+    public String generate() {
+        StringBuilder sql = new StringBuilder();
+        generate(sql);
+        return sql.toString();
+    }
+
+    public void generate(StringBuilder sql) {
+        Random random = new Random(seed);
+        List<String> entityTables = new ArrayList<>();
+        List<String> statementsAfter = new ArrayList<>();
+
+        sql.append("/* Esquema sintético: semilla ").append(seed).append(", ").append(tables).append(" tablas */\n\n");
+
+        for (int i = 0; i < tables; i++) {
+            String tableName = WORDS[random.nextInt(WORDS.length)] + "_" + i;
+            boolean composite = entityTables.size() >= 2 && random.nextDouble() < compositeKeyRatio;
+
+            if (random.nextDouble() < commentRatio) {
+                sql.append("-- Tabla ").append(tableName).append('\n');
+            }
+            sql.append(random.nextInt(10) == 0 ? "CREATE TABLE IF NOT EXISTS " : "CREATE TABLE ").append(tableName).append(" (\n");
+
+            List<String> definitions = new ArrayList<>();
+            Set<String> columnNames = new LinkedHashSet<>();
+            if (composite) {
+                appendCompositeKey(random, entityTables, definitions, columnNames);
+            } else {
+                appendPrimaryKey(random, definitions, columnNames);
+            }
+
+            boolean wide = random.nextDouble() < wideTableRatio;
+            int columns = wide ? wideTableColumns : minColumns + random.nextInt(maxColumns - minColumns + 1);
+            for (int c = 0; c < columns; c++) {
+                String columnName = uniqueName(COLUMN_WORDS[random.nextInt(COLUMN_WORDS.length)], columnNames);
+                definitions.add(column(random, columnName));
+            }
+
+            if (!composite) {
+                appendForeignKeys(random, tableName, entityTables, definitions, columnNames);
+            }
+
+            for (int d = 0; d < definitions.size(); d++) {
+                sql.append("    ").append(definitions.get(d));
+                if (d < definitions.size() - 1) {
+                    sql.append(',');
+                }
+                if (random.nextDouble() < commentRatio / 10) {
+                    sql.append(" -- comentario, con ; y (paréntesis)");
+                }
+                sql.append('\n');
+            }
+            sql.append(");\n\n");
+
+            // Índices (el procesador los asocia a la tabla) y sentencias que debe ignorar
+            if (random.nextInt(8) == 0) {
+                statementsAfter.add("CREATE INDEX idx_" + tableName + "_" + i + " ON " + tableName + " ("
+                    + columnNames.iterator().next() + ");");
+            }
+            if (random.nextInt(8) == 0) {
+                statementsAfter.add("COMMENT ON TABLE " + tableName + " IS 'Tabla " + tableName + "; generada';");
+            }
+
+            if (!composite) {
+                entityTables.add(tableName);
+            }
+        }
+
+        statementsAfter.forEach(statement -> sql.append(statement).append('\n'));
+    }
+
+    private void appendPrimaryKey(Random random, List<String> definitions, Set<String> columnNames) {
+        columnNames.add("id");
+        switch (random.nextInt(4)) {
+            case 0 -> definitions.add("id SERIAL PRIMARY KEY");
+            case 1 -> {
+                // Clave primaria declarada a nivel de tabla
+                definitions.add("id BIGINT NOT NULL");
+                definitions.add("PRIMARY KEY (id)");
+            }
+            default -> definitions.add("id BIGSERIAL PRIMARY KEY");
+        }
+    }
+
+    // Tabla intermedia: la clave primaria está compuesta por dos claves foráneas
+    private void appendCompositeKey(Random random, List<String> entityTables, List<String> definitions, Set<String> columnNames) {
+        String first = entityTables.get(random.nextInt(entityTables.size()));
+        String second = entityTables.get(random.nextInt(entityTables.size()));
+        String firstColumn = uniqueName(first + "_id", columnNames);
+        String secondColumn = uniqueName(second + "_id", columnNames);
+
+        definitions.add(firstColumn + " BIGINT NOT NULL REFERENCES " + first + "(id)");
+        definitions.add(secondColumn + " BIGINT NOT NULL");
+        definitions.add("CONSTRAINT pk_" + firstColumn + "_" + secondColumn + " PRIMARY KEY (" + firstColumn + ", " + secondColumn + ")");
+        definitions.add("FOREIGN KEY (" + secondColumn + ") REFERENCES " + second + "(id)");
+    }
+
+    private void appendForeignKeys(Random random, String tableName, List<String> entityTables,
+                                   List<String> definitions, Set<String> columnNames) {
+        if (!entityTables.isEmpty()) {
+            int foreignKeys = random.nextInt(maxForeignKeys + 1);
+            for (int f = 0; f < foreignKeys; f++) {
+                // Preferir tablas recientes genera cadenas largas de claves foráneas
+                int index = Math.max(0, entityTables.size() - 1 - random.nextInt(Math.min(entityTables.size(), 5)));
+                String target = entityTables.get(index);
+                String columnName = uniqueName(target + "_id", columnNames);
+                if (random.nextBoolean()) {
+                    definitions.add(columnName + " BIGINT" + (random.nextBoolean() ? " NOT NULL" : "")
+                        + " REFERENCES " + target + "(id)");
+                } else {
+                    definitions.add(columnName + " BIGINT");
+                    definitions.add("CONSTRAINT fk_" + tableName + "_" + columnName
+                        + " FOREIGN KEY (" + columnName + ") REFERENCES " + target + " (id) ON DELETE CASCADE");
+                }
+            }
+        }
+
+        if (random.nextDouble() < selfReferenceRatio) {
+            String columnName = uniqueName("parent_id", columnNames);
+            definitions.add(columnName + " BIGINT REFERENCES " + tableName + "(id)");
+        }
+    }
+
+    private String column(Random random, String columnName) {
+        String type = TYPES[random.nextInt(TYPES.length)];
+        if (type.contains("%d")) {
+            type = String.format(type, 1 + random.nextInt(255));
+        }
+
+        StringBuilder definition = new StringBuilder(columnName).append(' ').append(type);
+        int constraint = random.nextInt(10);
+        if (constraint < 3) {
+            definition.append(" NOT NULL");
+        } else if (constraint == 3) {
+            definition.append(" UNIQUE");
+        } else if (constraint == 4) {
+            definition.append(" UNIQUE NOT NULL");
+        }
+
+        String defaultValue = defaultValue(random, type);
+        if (defaultValue != null) {
+            definition.append(" DEFAULT ").append(defaultValue);
+        }
+        return definition.toString();
+    }
+
+    private String defaultValue(Random random, String type) {
+        if (random.nextInt(3) != 0) {
+            return null;
+        }
+        if (type.startsWith("VARCHAR") || type.startsWith("CHAR") || type.equals("TEXT")) {
+            return random.nextBoolean() ? "'valor'" : "'it''s; (ok)'";
+        } else if (type.equals("BOOLEAN")) {
+            return random.nextBoolean() ? "TRUE" : "false";
+        } else if (type.startsWith("TIMESTAMP")) {
+            return random.nextBoolean() ? "CURRENT_TIMESTAMP" : "now()";
+        } else if (type.equals("DATE")) {
+            return "CURRENT_DATE";
+        } else if (type.equals("UUID")) {
+            return "gen_random_uuid()";
+        } else if (type.startsWith("NUMERIC") || type.startsWith("DECIMAL") || type.equals("REAL") || type.startsWith("DOUBLE")) {
+            return random.nextBoolean() ? "0.00" : "-1.5";
+        } else if (type.contains("INT")) {
+            return String.valueOf(random.nextInt(100));
+        } else if (type.equals("TEXT[]")) {
+            return "'{}'";
+        }
+        return null;
+    }
+
+    private static String uniqueName(String base, Set<String> used) {
+        String name = base;
+        for (int suffix = 2; !used.add(name); suffix++) {
+            name = base + "_" + suffix;
+        }
+        return name;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getTables() {
+        return tables;
+    }
+
+    public void setTables(int tables) {
+        this.tables = tables;
+    }
+
+    public int getMinColumns() {
+        return minColumns;
+    }
+
+    public void setMinColumns(int minColumns) {
+        this.minColumns = minColumns;
+    }
+
+    public int getMaxColumns() {
+        return maxColumns;
+    }
+
+    public void setMaxColumns(int maxColumns) {
+        this.maxColumns = maxColumns;
+    }
+
+    public int getMaxForeignKeys() {
+        return maxForeignKeys;
+    }
+
+    public void setMaxForeignKeys(int maxForeignKeys) {
+        this.maxForeignKeys = maxForeignKeys;
+    }
+
+    public int getWideTableColumns() {
+        return wideTableColumns;
+    }
+
+    public void setWideTableColumns(int wideTableColumns) {
+        this.wideTableColumns = wideTableColumns;
+    }
+
+    public double getWideTableRatio() {
+        return wideTableRatio;
+    }
+
+    public void setWideTableRatio(double wideTableRatio) {
+        this.wideTableRatio = wideTableRatio;
+    }
+
+    public double getCompositeKeyRatio() {
+        return compositeKeyRatio;
+    }
+
+    public void setCompositeKeyRatio(double compositeKeyRatio) {
+        this.compositeKeyRatio = compositeKeyRatio;
+    }
+
+    public double getSelfReferenceRatio() {
+        return selfReferenceRatio;
+    }
+
+    public void setSelfReferenceRatio(double selfReferenceRatio) {
+        this.selfReferenceRatio = selfReferenceRatio;
+    }
+
+    public double getCommentRatio() {
+        return commentRatio;
+    }
+
+    public void setCommentRatio(double commentRatio) {
+        this.commentRatio = commentRatio;
+    }
+}
@@ -0,0 +1,41 @@
+package cl.playground.fixture;
+
+import cl.playground.core.engine.PostgresEngine;
+import cl.playground.core.engine.SchemaProcessor;
+import cl.playground.core.generator.EntityGenerator;
+import cl.playground.core.model.TableMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticSchemaGeneratorTest {
+
+    @Test
+    void testSameSeedProducesSameSchema() {
+        assertEquals(new SyntheticSchemaGenerator(42, 200).generate(), new SyntheticSchemaGenerator(42, 200).generate());
+        assertNotEquals(new SyntheticSchemaGenerator(42, 200).generate(), new SyntheticSchemaGenerator(7, 200).generate());
+    }
+
+    @Test
+    void testGeneratedSchemaIsProcessedAndGenerated() {
+        SyntheticSchemaGenerator schemaGenerator = new SyntheticSchemaGenerator(2024, 500);
+        schemaGenerator.setWideTableRatio(0.05);
+        schemaGenerator.setSelfReferenceRatio(0.2);
+
+        List<TableMetadata> tables = new SchemaProcessor(new PostgresEngine()).processSchema(schemaGenerator.generate());
+        assertEquals(500, tables.size());
+
+        // Todas las construcciones deben estar presentes en el esquema resultante
+        assertTrue(tables.stream().anyMatch(table -> table.getPrimaryKeys().size() > 1), "clave compuesta");
+        assertTrue(tables.stream().anyMatch(table -> table.getColumns().size() > schemaGenerator.getWideTableColumns()), "tabla ancha");
+        assertTrue(tables.stream().anyMatch(table -> table.getRelations().stream()
+            .anyMatch(relation -> relation.isManyToOne() && relation.getTargetTable().equals(table.getTableName()))), "autorreferencia");
+        assertTrue(tables.stream().anyMatch(table -> table.getColumns().stream()
+            .anyMatch(column -> "'it''s; (ok)'".equals(column.getDefaultValue()))), "default con literal");
+
+        EntityGenerator entityGenerator = new EntityGenerator(false);
+        tables.forEach(table -> assertFalse(entityGenerator.generateEntity(table, "cl.playground.synthetic").isEmpty()));
+    }
+}